@@ -0,0 +1,110 @@
+package game.info.benchmarks;
+
+import com.badlogic.gdx.utils.IntArray;
+import game.info.Box2DBroadPhase;
+import game.info.BroadPhase;
+import game.info.SpatialHash;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// One arena collision tick: rebuild with every monster and projectile moved a little, then
+// the player and projectile contacts and the auto-aim query. Run it on each target device with
+// ./gradlew :benchmarks:jmh -Pjmh.include=BroadPhase
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BroadPhaseBenchmark {
+    private static final float CELL_SIZE = 16f;
+    private static final float MONSTER_SIZE = 16f;
+    private static final float PROJECTILE_SIZE = 8f;
+    private static final int PROJECTILE_COUNT = 64;
+    private static final int LAYER_PLAYER = 0;
+    private static final int LAYER_MONSTER = 1;
+    private static final int LAYER_PROJECTILE = 2;
+
+    @Param({"grid", "box2d"})
+    public String backend;
+
+    @Param({"100", "1000", "10000"})
+    public int monsterCount;
+
+    private BroadPhase broadPhase;
+    private final IntArray hits = new IntArray();
+    private float[] x;
+    private float[] y;
+    private float[] stepX;
+    private float[] stepY;
+    private float worldSize;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Keep density roughly constant so larger counts mean a larger, busier map.
+        worldSize = Math.max(480f, (float) Math.sqrt(monsterCount) * MONSTER_SIZE * 2f);
+        int cells = (int) (worldSize / CELL_SIZE) * (int) (worldSize / CELL_SIZE);
+        if (backend.equals("box2d")) {
+            Box2DBroadPhase box2d = new Box2DBroadPhase(CELL_SIZE);
+            box2d.enableContacts(LAYER_PLAYER, LAYER_MONSTER);
+            box2d.enableContacts(LAYER_PROJECTILE, LAYER_MONSTER);
+            broadPhase = box2d;
+        } else {
+            broadPhase = new SpatialHash(CELL_SIZE, cells);
+        }
+
+        Random random = new Random(42);
+        int total = monsterCount + PROJECTILE_COUNT;
+        x = new float[total];
+        y = new float[total];
+        stepX = new float[total];
+        stepY = new float[total];
+        for (int i = 0; i < total; i++) {
+            x[i] = random.nextFloat() * worldSize;
+            y[i] = random.nextFloat() * worldSize;
+            float speed = i < monsterCount ? 80f / 60f : 450f / 60f;
+            double angle = random.nextDouble() * Math.PI * 2;
+            stepX[i] = (float) Math.cos(angle) * speed;
+            stepY[i] = (float) Math.sin(angle) * speed;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        broadPhase.dispose();
+    }
+
+    @Benchmark
+    public int collisionTick() {
+        move();
+        float center = worldSize / 2f;
+        broadPhase.clear();
+        int player = broadPhase.insert(LAYER_PLAYER, 0, center - 8, center - 8, 16, 16);
+        for (int i = 0; i < monsterCount; i++) {
+            broadPhase.insert(LAYER_MONSTER, i, x[i] - MONSTER_SIZE / 2f, y[i] - MONSTER_SIZE / 2f, MONSTER_SIZE, MONSTER_SIZE);
+        }
+        int firstProjectile = broadPhase.getEntryCount();
+        for (int i = monsterCount; i < x.length; i++) {
+            broadPhase.insert(LAYER_PROJECTILE, i, x[i] - PROJECTILE_SIZE / 2f, y[i] - PROJECTILE_SIZE / 2f,
+                PROJECTILE_SIZE, PROJECTILE_SIZE);
+        }
+
+        int found = broadPhase.queryContacts(player, 1 << LAYER_MONSTER, hits);
+        for (int entry = firstProjectile; entry < broadPhase.getEntryCount(); entry++) {
+            found += broadPhase.queryContacts(entry, 1 << LAYER_MONSTER, hits);
+        }
+        found += broadPhase.queryNearest(center, center, 2, 1 << LAYER_MONSTER, hits);
+        return found;
+    }
+
+    private void move() {
+        for (int i = 0; i < x.length; i++) {
+            x[i] += stepX[i];
+            y[i] += stepY[i];
+            if (x[i] < 0 || x[i] > worldSize) stepX[i] = -stepX[i];
+            if (y[i] < 0 || y[i] > worldSize) stepY[i] = -stepY[i];
+        }
+    }
+}
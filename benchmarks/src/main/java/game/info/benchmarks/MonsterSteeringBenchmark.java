@@ -0,0 +1,63 @@
+package game.info.benchmarks;
+
+import com.badlogic.gdx.math.MathUtils;
+import game.info.FlowField;
+import game.info.MonsterStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonsterSteeringBenchmark {
+    private static final float DELTA = 1f / 60f;
+    private static final float TILE_SIZE = 16f;
+    private static final int MAP_TILES = 300;
+
+    @Param({"1000", "10000", "100000"})
+    public int monsterCount;
+
+    private MonsterStore monsters;
+    private FlowField flowField;
+    private float targetX;
+    private float targetY;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Random random = new Random(42);
+        monsters = new MonsterStore(monsterCount);
+        for (int i = 0; i < monsterCount; i++) {
+            monsters.add(random.nextFloat() * 4800, random.nextFloat() * 4800, 80f);
+        }
+        targetX = 2400;
+        targetY = 2400;
+        // No obstacles, so both paths head for the same point and move the same distance.
+        flowField = new FlowField(MAP_TILES, MAP_TILES, TILE_SIZE);
+        flowField.setTarget(targetX, targetY);
+    }
+
+    // The per-monster atan2/cos/sin path the arena used before the flow field and batch pass.
+    @Benchmark
+    public MonsterStore trigSteering() {
+        float[] x = monsters.x;
+        float[] y = monsters.y;
+        for (int i = 0; i < monsters.size; i++) {
+            float angle = MathUtils.atan2(targetY - y[i], targetX - x[i]);
+            x[i] += MathUtils.cos(angle) * monsters.speed[i] * DELTA;
+            y[i] += MathUtils.sin(angle) * monsters.speed[i] * DELTA;
+            monsters.animTimer[i] += DELTA;
+        }
+        return monsters;
+    }
+
+    @Benchmark
+    public MonsterStore flowFieldSteering() {
+        monsters.steer(flowField, targetX, targetY, DELTA);
+        return monsters;
+    }
+}
@@ -0,0 +1,56 @@
+package game.info.benchmarks;
+
+import game.info.FlowField;
+import game.info.MonsterArchetype;
+import game.info.MonsterStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// One arena tick of monster movement: flow-field steering plus fade expiry, with the camera
+// view covering a 320x240 window so the off-screen LOD path is exercised too.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonsterUpdateBenchmark {
+    private static final float DELTA = 1f / 60f;
+    private static final float TILE_SIZE = 16f;
+    private static final int MAP_TILES = 30;
+
+    @Param({"100", "1000", "10000"})
+    public int monsterCount;
+
+    private MonsterStore monsters;
+    private FlowField flowField;
+    private final float targetX = MAP_TILES * TILE_SIZE / 2f;
+    private final float targetY = MAP_TILES * TILE_SIZE / 2f;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Random random = new Random(42);
+        float mapSize = MAP_TILES * TILE_SIZE;
+        flowField = new FlowField(MAP_TILES, MAP_TILES, TILE_SIZE);
+        for (int i = 0; i < MAP_TILES * MAP_TILES / 10; i++) {
+            flowField.setCost(random.nextInt(MAP_TILES), random.nextInt(MAP_TILES), FlowField.BLOCKED);
+        }
+        flowField.setTarget(targetX, targetY);
+
+        monsters = new MonsterStore(monsterCount);
+        for (int i = 0; i < monsterCount; i++) {
+            MonsterArchetype archetype = MonsterArchetype.ALL[random.nextInt(MonsterArchetype.ALL.length)];
+            monsters.add(random.nextFloat() * mapSize, random.nextFloat() * mapSize, archetype);
+        }
+        monsters.setView(targetX - 160, targetY - 120, targetX + 160, targetY + 120);
+    }
+
+    @Benchmark
+    public MonsterStore flowFieldUpdate() {
+        monsters.savePrevious();
+        monsters.update(flowField, targetX, targetY, DELTA);
+        return monsters;
+    }
+}
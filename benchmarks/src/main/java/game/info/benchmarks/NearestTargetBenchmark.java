@@ -0,0 +1,76 @@
+package game.info.benchmarks;
+
+import com.badlogic.gdx.utils.IntArray;
+import game.info.SpatialHash;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Auto-aim target search: the two monsters nearest the player, through the grid's ring
+// search and through the linear scan it replaced.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NearestTargetBenchmark {
+    private static final float CELL_SIZE = 16f;
+    private static final float MONSTER_SIZE = 16f;
+    private static final int LAYER_MONSTER = 1;
+
+    @Param({"100", "1000", "10000"})
+    public int monsterCount;
+
+    private SpatialHash grid;
+    private float[] x;
+    private float[] y;
+    private float playerX;
+    private float playerY;
+    private final IntArray nearest = new IntArray();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        float worldSize = Math.max(480f, (float) Math.sqrt(monsterCount) * MONSTER_SIZE * 2f);
+        int cells = (int) (worldSize / CELL_SIZE) * (int) (worldSize / CELL_SIZE);
+        grid = new SpatialHash(CELL_SIZE, cells);
+        Random random = new Random(42);
+        x = new float[monsterCount];
+        y = new float[monsterCount];
+        for (int i = 0; i < monsterCount; i++) {
+            x[i] = random.nextFloat() * worldSize;
+            y[i] = random.nextFloat() * worldSize;
+            grid.insert(LAYER_MONSTER, i, x[i] - MONSTER_SIZE / 2f, y[i] - MONSTER_SIZE / 2f, MONSTER_SIZE, MONSTER_SIZE);
+        }
+        playerX = worldSize / 2f;
+        playerY = worldSize / 2f;
+    }
+
+    @Benchmark
+    public int gridQuery() {
+        grid.queryNearest(playerX, playerY, 2, 1 << LAYER_MONSTER, nearest);
+        return grid.getId(nearest.get(0));
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int first = -1, second = -1;
+        float firstDistance = Float.MAX_VALUE, secondDistance = Float.MAX_VALUE;
+        for (int i = 0; i < monsterCount; i++) {
+            float dx = x[i] - playerX;
+            float dy = y[i] - playerY;
+            float distance = dx * dx + dy * dy;
+            if (distance < firstDistance) {
+                second = first;
+                secondDistance = firstDistance;
+                first = i;
+                firstDistance = distance;
+            } else if (distance < secondDistance) {
+                second = i;
+                secondDistance = distance;
+            }
+        }
+        return first + second;
+    }
+}
@@ -0,0 +1,145 @@
+package game.info.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import game.info.Player;
+import game.info.headless.NullGL20;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Player.update with the island polygon checks. "open" moves freely inside the island;
+// "edge" pushes against the right-hand shore, so the diagonal and horizontal tests fail and
+// every call slides vertically on the third overlapConvexPolygons test.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerUpdateBenchmark {
+    private static final float DELTA = 1f / 60f;
+    private static final float ISLAND_MIN = 100;
+    private static final float ISLAND_MAX = 380;
+
+    @Param({"open", "edge"})
+    public String path;
+
+    private HeadlessApplication application;
+    private Player player;
+    private Polygon islandBounds;
+    private final Vector2 direction = new Vector2();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        application = new HeadlessApplication(new ApplicationAdapter() { }, new HeadlessApplicationConfiguration());
+        GL20 gl = NullGL20.create();
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+        TextureRegion idle = new TextureRegion(new Texture(new SizeOnlyTextureData(16, 16)));
+        Animation<TextureRegion> walk = new Animation<>(0.2f, new Array<>(new TextureRegion[]{idle, idle}), Animation.PlayMode.LOOP);
+        islandBounds = new Polygon(new float[]{
+            ISLAND_MIN, ISLAND_MIN,
+            ISLAND_MIN, ISLAND_MAX,
+            ISLAND_MAX, ISLAND_MAX,
+            ISLAND_MAX, ISLAND_MIN
+        });
+
+        if (path.equals("edge")) {
+            player = new Player(idle, walk, ISLAND_MAX - 0.5f, (ISLAND_MIN + ISLAND_MAX) / 2f, 120f);
+            direction.set(1, 0.2f).nor();
+        } else {
+            player = new Player(idle, walk, (ISLAND_MIN + ISLAND_MAX) / 2f, (ISLAND_MIN + ISLAND_MAX) / 2f, 120f);
+            direction.set(1, 0);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        application.exit();
+    }
+
+    @Benchmark
+    public Player update() {
+        // Reverse every call so the player stays in place across millions of iterations.
+        if (path.equals("open")) direction.x = -direction.x;
+        else direction.y = -direction.y;
+        player.update(direction, DELTA, islandBounds);
+        return player;
+    }
+
+    // Gives the player a texture size without decoding an image or touching GL.
+    private static class SizeOnlyTextureData implements TextureData {
+        private final int width;
+        private final int height;
+
+        SizeOnlyTextureData(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public TextureDataType getType() {
+            return TextureDataType.Custom;
+        }
+
+        @Override
+        public boolean isPrepared() {
+            return true;
+        }
+
+        @Override
+        public void prepare() {
+        }
+
+        @Override
+        public Pixmap consumePixmap() {
+            return null;
+        }
+
+        @Override
+        public boolean disposePixmap() {
+            return false;
+        }
+
+        @Override
+        public void consumeCustomData(int target) {
+        }
+
+        @Override
+        public int getWidth() {
+            return width;
+        }
+
+        @Override
+        public int getHeight() {
+            return height;
+        }
+
+        @Override
+        public Pixmap.Format getFormat() {
+            return Pixmap.Format.RGBA8888;
+        }
+
+        @Override
+        public boolean useMipMaps() {
+            return false;
+        }
+
+        @Override
+        public boolean isManaged() {
+            return false;
+        }
+    }
+}
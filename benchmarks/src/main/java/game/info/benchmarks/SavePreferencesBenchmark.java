@@ -0,0 +1,53 @@
+package game.info.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import game.info.MyGames;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// MyGames.savePreferences as called from the arena: every key rewritten and the whole file
+// flushed. Scales with the number of purchased pets it serialises.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SavePreferencesBenchmark {
+    @Param({"0", "10", "100"})
+    public int purchasedPets;
+
+    private HeadlessApplication application;
+    private MyGames game;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.preferencesDirectory = ".prefs/spaceshards-benchmark/";
+        application = new HeadlessApplication(new ApplicationAdapter() { }, configuration);
+        game = new MyGames();
+        game.getPurchasedHeroes();
+        Set<String> pets = new HashSet<>();
+        for (int i = 0; i < purchasedPets; i++) {
+            pets.add("pet" + i);
+        }
+        game.setPurchasedPets(pets);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        application.exit();
+    }
+
+    @Benchmark
+    public MyGames savePreferences() {
+        MyGames.diamonds++;
+        game.savePreferences();
+        return game;
+    }
+}
@@ -0,0 +1,87 @@
+package game.info;
+
+import com.badlogic.gdx.math.MathUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Bounded lock-free queue: any thread may offer, only the owning thread drains.
+public class ArenaCommandQueue {
+    public interface Handler {
+        void handle(int type, int value);
+    }
+
+    private final int mask;
+    private final int[] types;
+    private final int[] values;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+    private final AtomicInteger droppedCount = new AtomicInteger();
+
+    public ArenaCommandQueue(int capacity) {
+        int size = MathUtils.nextPowerOfTwo(Math.max(2, capacity));
+        mask = size - 1;
+        types = new int[size];
+        values = new int[size];
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(int type, int value) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    types[index] = type;
+                    values[index] = value;
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                droppedCount.incrementAndGet();
+                return false;
+            }
+        }
+    }
+
+    public boolean offer(int type) {
+        return offer(type, 0);
+    }
+
+    public int drain(Handler handler) {
+        int drained = 0;
+        while (true) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) break;
+            int type = types[index];
+            int value = values[index];
+            sequences.lazySet(index, head + mask + 1);
+            head++;
+            handler.handle(type, value);
+            drained++;
+        }
+        return drained;
+    }
+
+    public void clear() {
+        drain((type, value) -> { });
+    }
+
+    public boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    public int getDroppedCount() {
+        return droppedCount.get();
+    }
+}
@@ -0,0 +1,109 @@
+package game.info;
+
+import com.badlogic.gdx.Screen;
+
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class ArenaLevel {
+    public static final ArenaLevel FOREST = new ArenaLevel(
+        "ForestScreen",
+        "map2/forest.tmx",
+        new String[]{"monster", "monster1", "monster2"},
+        MyGames::playForestMusic,
+        PauseScreen::new,
+        GameOverScreen::new,
+        true);
+
+    public static final ArenaLevel DUNGEON = new ArenaLevel(
+        "DungeonScreen",
+        "map3/dungeon.tmx",
+        new String[]{"enemy", "enemy1", "enemy2"},
+        MyGames::playDungeonMusic,
+        PS2::new,
+        GO2::new,
+        false);
+
+    public static final ArenaLevel CLOUD = new ArenaLevel(
+        "CloudScreen",
+        "map7/cloudmap.tmx",
+        new String[]{"slug1", "slug1", "slug2"},
+        MyGames::playCloudMusic,
+        CloudPause::new,
+        CloudGO::new,
+        true);
+
+    private final String name;
+    private final String mapPath;
+    private final String[] monsterSprites;
+    private final Consumer<MyGames> music;
+    private final BiFunction<MyGames, ArenaScreen, Screen> pauseScreen;
+    private final Function<MyGames, Screen> gameOverScreen;
+    private final boolean tracksKills;
+
+    private final float islandMinX = 100;
+    private final float islandMinY = 100;
+    private final float islandMaxX = 380;
+    private final float islandMaxY = 380;
+
+    public ArenaLevel(String name, String mapPath, String[] monsterSprites, Consumer<MyGames> music,
+                      BiFunction<MyGames, ArenaScreen, Screen> pauseScreen,
+                      Function<MyGames, Screen> gameOverScreen, boolean tracksKills) {
+        this.name = name;
+        this.mapPath = mapPath;
+        this.monsterSprites = monsterSprites;
+        this.music = music;
+        this.pauseScreen = pauseScreen;
+        this.gameOverScreen = gameOverScreen;
+        this.tracksKills = tracksKills;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getMapPath() {
+        return mapPath;
+    }
+
+    public String getMonsterIdleSprite() {
+        return monsterSprites[0];
+    }
+
+    public String getMonsterWalkSprite(int index) {
+        return monsterSprites[1 + index];
+    }
+
+    public void playMusic(MyGames game) {
+        music.accept(game);
+    }
+
+    public Screen createPauseScreen(MyGames game, ArenaScreen arena) {
+        return pauseScreen.apply(game, arena);
+    }
+
+    public Screen createGameOverScreen(MyGames game) {
+        return gameOverScreen.apply(game);
+    }
+
+    public boolean tracksKills() {
+        return tracksKills;
+    }
+
+    public float getIslandMinX() {
+        return islandMinX;
+    }
+
+    public float getIslandMinY() {
+        return islandMinY;
+    }
+
+    public float getIslandMaxX() {
+        return islandMaxX;
+    }
+
+    public float getIslandMaxY() {
+        return islandMaxY;
+    }
+}
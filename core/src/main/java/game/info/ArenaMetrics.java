@@ -0,0 +1,103 @@
+package game.info;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.ObjectLongMap;
+
+public class ArenaMetrics {
+    private int liveMonsters;
+    private int activeProjectiles;
+    private long launchedProjectiles;
+    private long expiredProjectiles;
+    private long reclaimedProjectiles;
+    private long rejectedProjectiles;
+    private final ObjectLongMap<String> systemNanos = new ObjectLongMap<>();
+    private int systemTicks;
+    private int offscreenMonsters;
+    // Written by the render thread, read when logging from the simulation thread.
+    private volatile int drawnSprites;
+    private volatile int culledSprites;
+
+    public void update(MonsterStore monsters, ProjectileSystem bombs, ProjectileSystem knives) {
+        liveMonsters = monsters.size;
+        offscreenMonsters = monsters.getOffscreenCount();
+        activeProjectiles = bombs.size() + knives.size();
+        launchedProjectiles = bombs.getLaunchedCount() + knives.getLaunchedCount();
+        expiredProjectiles = bombs.getExpiredCount() + knives.getExpiredCount();
+        reclaimedProjectiles = bombs.getReclaimedCount() + knives.getReclaimedCount();
+        rejectedProjectiles = bombs.getRejectedCount() + knives.getRejectedCount();
+        systemTicks++;
+    }
+
+    public void recordDrawCounts(int drawn, int culled) {
+        drawnSprites = drawn;
+        culledSprites = culled;
+    }
+
+    public void recordSystemTime(String system, long nanos) {
+        systemNanos.getAndIncrement(system, 0, nanos);
+    }
+
+    // Average microseconds per tick for a system since the last log.
+    public float getSystemMicros(String system) {
+        return systemTicks == 0 ? 0 : systemNanos.get(system, 0) / 1000f / systemTicks;
+    }
+
+    public void log(String tag) {
+        if (Gdx.app != null && Gdx.app.getLogLevel() >= Application.LOG_DEBUG) {
+            Gdx.app.debug(tag, "monsters=" + liveMonsters
+                + " projectiles=" + activeProjectiles
+                + " launched=" + launchedProjectiles
+                + " expired=" + expiredProjectiles
+                + " reclaimed=" + reclaimedProjectiles
+                + " rejected=" + rejectedProjectiles
+                + " offscreen=" + offscreenMonsters
+                + " drawn=" + drawnSprites
+                + " culled=" + culledSprites);
+
+            StringBuilder systems = new StringBuilder("systems(us/tick)");
+            for (ObjectLongMap.Entry<String> entry : systemNanos) {
+                systems.append(' ').append(entry.key).append('=').append(getSystemMicros(entry.key));
+            }
+            Gdx.app.debug(tag, systems.toString());
+        }
+        systemNanos.clear();
+        systemTicks = 0;
+    }
+
+    public int getLiveMonsters() {
+        return liveMonsters;
+    }
+
+    public int getOffscreenMonsters() {
+        return offscreenMonsters;
+    }
+
+    public int getDrawnSprites() {
+        return drawnSprites;
+    }
+
+    public int getCulledSprites() {
+        return culledSprites;
+    }
+
+    public int getActiveProjectiles() {
+        return activeProjectiles;
+    }
+
+    public long getLaunchedProjectiles() {
+        return launchedProjectiles;
+    }
+
+    public long getExpiredProjectiles() {
+        return expiredProjectiles;
+    }
+
+    public long getReclaimedProjectiles() {
+        return reclaimedProjectiles;
+    }
+
+    public long getRejectedProjectiles() {
+        return rejectedProjectiles;
+    }
+}
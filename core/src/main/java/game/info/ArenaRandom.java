@@ -0,0 +1,55 @@
+package game.info;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+// Per-arena random streams. Each consumer draws from its own stream, so extra draws in one
+// (say, a new sound) never shift what another (spawn positions) produces for the same seed.
+public class ArenaRandom {
+    private static final long SPAWN_STREAM = 1;
+    private static final long SPELL_STREAM = 2;
+    private static final long AUDIO_STREAM = 3;
+
+    private final RandomXS128 spawns = new RandomXS128();
+    private final RandomXS128 spells = new RandomXS128();
+    private final RandomXS128 audio = new RandomXS128();
+    private long seed;
+
+    public ArenaRandom(long seed) {
+        setSeed(seed);
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+        spawns.setSeed(streamSeed(seed, SPAWN_STREAM));
+        spells.setSeed(streamSeed(seed, SPELL_STREAM));
+        audio.setSeed(streamSeed(seed, AUDIO_STREAM));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public RandomXS128 getSpawns() {
+        return spawns;
+    }
+
+    public RandomXS128 getSpells() {
+        return spells;
+    }
+
+    public RandomXS128 getAudio() {
+        return audio;
+    }
+
+    public static float range(RandomXS128 random, float min, float max) {
+        return min + random.nextFloat() * (max - min);
+    }
+
+    // SplitMix64 finalizer, so neighbouring seeds and stream ids give unrelated streams.
+    private static long streamSeed(long seed, long stream) {
+        long z = seed + stream * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
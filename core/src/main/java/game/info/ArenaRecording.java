@@ -0,0 +1,168 @@
+package game.info;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+// Everything an arena run depends on besides the level itself: the seed, the settings that
+// change the simulation, and every input change keyed by the tick it took effect on.
+// On disk that is a small header followed by (varint tick delta, type, [value]) records.
+public class ArenaRecording {
+    public static final int EVENT_JOYSTICK = 0;
+    public static final int EVENT_FIRE = 1;
+    public static final int EVENT_PAUSE = 2;
+    public static final int EVENT_RESUME = 3;
+
+    public static final int FLAG_SPEED_UPGRADE = 1;
+    public static final int FLAG_KNIFE_UPGRADE = 1 << 1;
+    public static final int FLAG_AUTO_SPELL_UPGRADE = 1 << 2;
+    public static final int FLAG_BOX2D_BROAD_PHASE = 1 << 3;
+
+    private static final int MAGIC = 0x53535250;
+    private static final int VERSION = 1;
+
+    private final String levelName;
+    private final long seed;
+    private final int tickRate;
+    private final String hero;
+    private final int flags;
+    private long[] ticks = new long[256];
+    private byte[] types = new byte[256];
+    private int[] values = new int[256];
+    private int size;
+    private int cursor;
+
+    public ArenaRecording(String levelName, long seed, int tickRate, String hero, int flags) {
+        this.levelName = levelName;
+        this.seed = seed;
+        this.tickRate = tickRate;
+        this.hero = hero;
+        this.flags = flags;
+    }
+
+    public void record(long tick, int type, int value) {
+        if (size == ticks.length) {
+            ticks = Arrays.copyOf(ticks, size * 2);
+            types = Arrays.copyOf(types, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        ticks[size] = tick;
+        types[size] = (byte) type;
+        values[size] = value;
+        size++;
+    }
+
+    // Hands every event recorded for this tick to the handler, in recording order.
+    public int replay(long tick, ArenaCommandQueue.Handler handler) {
+        int replayed = 0;
+        while (cursor < size && ticks[cursor] <= tick) {
+            handler.handle(types[cursor], values[cursor]);
+            cursor++;
+            replayed++;
+        }
+        return replayed;
+    }
+
+    public void rewind() {
+        cursor = 0;
+    }
+
+    public boolean isFinished() {
+        return cursor >= size;
+    }
+
+    public void write(FileHandle file) {
+        DataOutputStream out = new DataOutputStream(file.write(false, 8192));
+        try {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeUTF(levelName);
+            out.writeLong(seed);
+            out.writeInt(tickRate);
+            out.writeUTF(hero);
+            out.writeByte(flags);
+            writeVarLong(out, size);
+            long previousTick = 0;
+            for (int i = 0; i < size; i++) {
+                writeVarLong(out, ticks[i] - previousTick);
+                previousTick = ticks[i];
+                out.writeByte(types[i]);
+                if (types[i] == EVENT_JOYSTICK) out.writeInt(values[i]);
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not write recording " + file, e);
+        } finally {
+            StreamUtils.closeQuietly(out);
+        }
+    }
+
+    public static ArenaRecording read(FileHandle file) {
+        DataInputStream in = new DataInputStream(file.read(8192));
+        try {
+            if (in.readInt() != MAGIC) throw new GdxRuntimeException("Not an arena recording: " + file);
+            int version = in.readUnsignedByte();
+            if (version != VERSION) throw new GdxRuntimeException("Unsupported recording version " + version + ": " + file);
+
+            ArenaRecording recording = new ArenaRecording(in.readUTF(), in.readLong(), in.readInt(), in.readUTF(),
+                in.readUnsignedByte());
+            long count = readVarLong(in);
+            long tick = 0;
+            for (long i = 0; i < count; i++) {
+                tick += readVarLong(in);
+                int type = in.readUnsignedByte();
+                recording.record(tick, type, type == EVENT_JOYSTICK ? in.readInt() : 0);
+            }
+            return recording;
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not read recording " + file, e);
+        } finally {
+            StreamUtils.closeQuietly(in);
+        }
+    }
+
+    public String getLevelName() {
+        return levelName;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public String getHero() {
+        return hero;
+    }
+
+    public boolean hasFlag(int flag) {
+        return (flags & flag) != 0;
+    }
+
+    public int getEventCount() {
+        return size;
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+    }
+}
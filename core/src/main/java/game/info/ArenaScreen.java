@@ -0,0 +1,1621 @@
+package game.info;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.*;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.*;
+import com.badlogic.gdx.graphics.g2d.*;
+import com.badlogic.gdx.maps.tiled.*;
+import com.badlogic.gdx.maps.tiled.renderers.*;
+import com.badlogic.gdx.math.*;
+import com.badlogic.gdx.utils.*;
+import com.badlogic.gdx.utils.viewport.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ArenaScreen implements Screen, InputProcessor {
+    protected final MyGames game;
+    private final ArenaLevel level;
+    private OrthographicCamera gameCamera;
+    private WorldRenderTarget worldTarget;
+    private OrthographicCamera uiCamera;
+    private ScreenViewport uiViewport;
+    private TiledMap tiledMap;
+    private OrthogonalTiledMapRenderer tiledMapRenderer;
+    private Player player;
+    private Entity playerEntity;
+    private Joystick joystick;
+    private SpriteBatch batch;
+    private Polygon islandBounds;
+
+    // UI Elements
+    private TextureRegion bombButtonRegion;
+    private TextureRegion knifeButtonRegion;
+    private Rectangle bombButtonBounds;
+    private float bombCooldown = 0;
+    private static final float BOMB_COOLDOWN_TIME = 0.5f;
+    private ResourceCounter resourceCounter;
+    private BitmapFont font;
+
+    private int TILE_SIZE = 16;
+    private int MAP_WIDTH_TILES = 30;
+    private IntSet activePointers = new IntSet();
+    private final Vector3 touchPos = new Vector3();
+    private int MAP_HEIGHT_TILES = 30;
+    public int MAP_WIDTH = MAP_WIDTH_TILES * TILE_SIZE;
+    public int MAP_HEIGHT = MAP_HEIGHT_TILES * TILE_SIZE;
+
+    private static final float PLAYER_SPEED = 120f;
+    private static final float JOYSTICK_SIZE = 120f;
+    private static final float JOYSTICK_MARGIN = 150f;
+    private static final float BOMB_BUTTON_SIZE = 150f;
+    private static final float BOMB_BUTTON_MARGIN = 150f;
+    private static final float INITIAL_ZOOM = 1f;
+    private static final float LOD_VIEW_WIDTH = MyGames.WIDTH / INITIAL_ZOOM;
+    private static final float LOD_VIEW_HEIGHT = MyGames.HEIGHT / INITIAL_ZOOM;
+    private static final float BOMB_SPEED = 300f;
+    private static final float KNIFE_SPEED = BOMB_SPEED * 1.5f;
+
+    private static final int DEFAULT_TICK_RATE = 60;
+    private static final int DEFAULT_MAX_CATCH_UP_STEPS = 5;
+    private final FixedTimestep timestep = new FixedTimestep(DEFAULT_TICK_RATE, DEFAULT_MAX_CATCH_UP_STEPS);
+    private float renderAlpha = 1f;
+    private final ArenaSnapshotBuffer snapshots = new ArenaSnapshotBuffer();
+    private final ArenaSimulationThread simulationThread;
+    private boolean threadedSimulation;
+    private long tickCount;
+    private final AtomicInteger joystickInput = new AtomicInteger();
+    private int lastJoystickInput;
+    private final Vector2 moveDirection = new Vector2();
+    // Set when this run is being recorded, or when it is replaying one instead of reading input.
+    private ArenaRecording recording;
+    private final ArenaRecording replay;
+    private final ArenaCommandQueue.Handler replayHandler = this::applyReplayEvent;
+    private int replayJoystickInput;
+    private int lastRecordedJoystickInput;
+
+    private float timeSinceStart = 0;
+    static final float MONSTER_SPAWN_INTERVAL = 5f;
+    static final int MAX_LIVE_MONSTERS = 160;
+    // A cap on how many queued monsters are added per tick, not a time budget.
+    static final int MAX_SPAWNS_PER_TICK = 4;
+    private final ArenaRandom random = new ArenaRandom(MathUtils.random.nextLong());
+    private final SpawnDirector spawnDirector = new SpawnDirector(MONSTER_SPAWN_INTERVAL, MAX_LIVE_MONSTERS, MAX_SPAWNS_PER_TICK,
+        random.getSpawns());
+    private MonsterStore monsters;
+    private ProjectileSystem bombs;
+    private int playerHealth = 100;
+    private volatile boolean gameOver = false;
+
+    private TextureRegion monsterIdleRegion;
+    private Animation<TextureRegion> monsterAnimation;
+    private TextureRegion[] bombFrames;
+    private TextureRegion[] knifeFrames;
+    // Slack around the camera so monsters about to walk into view already animate at full rate.
+    private static final float VIEW_MARGIN = 16f;
+    private float viewLeft, viewBottom, viewRight, viewTop;
+    private int drawnSprites;
+    private int culledSprites;
+    private final Rectangle monsterBounds = new Rectangle();
+    private BroadPhase broadPhase;
+    private boolean box2dBroadPhase;
+    private FlowField flowField;
+    private final IntArray collisionHits = new IntArray();
+    private final IntArray nearestMonsters = new IntArray();
+    private boolean collisionGridDirty = true;
+    private int playerEntry;
+    private int firstKnifeEntry;
+    private int firstBombEntry;
+    private static final int LAYER_PLAYER = 0;
+    private static final int LAYER_MONSTER = 1;
+    private static final int LAYER_KNIFE = 2;
+    private static final int LAYER_BOMB = 3;
+    private static final int LAYER_SPELL = 4;
+    private BitmapFont healthFont;
+    private TextureRegion spellRegion;
+    private Entity spellEntity;
+    private boolean spellCollected = false;
+    private float spellSpawnTimer = 0;
+    private static final float SPELL_SPAWN_DELAY = 10f;
+    private static final float SPELL_RESPAWN_INTERVAL = 6f;
+    private static final float SPELL_ANIMATION_SPEED = 0.5f;
+    private static final float SPELL_ANIMATION_HEIGHT = 5f;
+    private static final float SPELL_SIZE = 15f;
+    private static final float SPELL_FADE_DURATION = 0.3f;
+    private ProjectileSystem knives;
+    private static final int PROJECTILE_CAPACITY = 256;
+    private static final float PROJECTILE_LIFETIME = 4f;
+    private final ArenaMetrics metrics = new ArenaMetrics();
+    // The horde and projectiles stay in their array stores; the engine runs the tick as
+    // ordered systems and owns the handful of one-off entities (pet, pickups).
+    private final PooledEngine engine = new PooledEngine();
+    private static final ComponentMapper<PositionComponent> POSITION = ComponentMapper.getFor(PositionComponent.class);
+    private static final ComponentMapper<VelocityComponent> VELOCITY = ComponentMapper.getFor(VelocityComponent.class);
+    private static final ComponentMapper<ColliderComponent> COLLIDER = ComponentMapper.getFor(ColliderComponent.class);
+    private static final ComponentMapper<FadeComponent> FADE = ComponentMapper.getFor(FadeComponent.class);
+    private static final ComponentMapper<SpriteComponent> SPRITE = ComponentMapper.getFor(SpriteComponent.class);
+    private static final ComponentMapper<PickupComponent> PICKUP = ComponentMapper.getFor(PickupComponent.class);
+    private static final ComponentMapper<PetComponent> PET = ComponentMapper.getFor(PetComponent.class);
+    private static final ComponentMapper<PlayerComponent> PLAYER = ComponentMapper.getFor(PlayerComponent.class);
+    private ImmutableArray<Entity> positionedEntities;
+    private SpriteCaptureSystem spriteCapture;
+    private ImmutableArray<Entity> colliderEntities;
+    private float metricsLogTimer = 0;
+    private static final float METRICS_LOG_INTERVAL = 5f;
+
+    private float islandMinX, islandMinY, islandMaxX, islandMaxY;
+
+    private boolean isTransitioning = false;
+
+    private static final int COMMAND_FIRE = 0;
+    private static final int COMMAND_PAUSE = 1;
+    private static final int COMMAND_RESUME = 2;
+    private static final int EFFECT_SOUND = 0;
+    private static final int EFFECT_DIAMONDS_GAINED = 1;
+    private static final int EFFECT_DIAMONDS_LOST = 2;
+    private static final int EFFECT_KILLS = 3;
+    private static final int EFFECT_SPELLS_COLLECTED = 4;
+    private static final int SOUND_KNIFE = 0;
+    private static final int SOUND_BOMB = 1;
+    private static final int SOUND_SPELL_COLLECT = 2;
+    private static final int SOUND_PLAYER_HURT = 3;
+    private static final int SOUND_MONSTER_DEATH = 4;
+    private static final int SOUND_FREEZE = 5;
+    private static final int SOUND_HEAL = 6;
+    private static final int SOUND_TWISTER = 7;
+    private static final int SOUND_HELLSTORM = 8;
+    private static final int SOUND_COUNT = 9;
+    private static final int QUEUE_CAPACITY = 256;
+    // Input -> simulation and simulation -> render thread. The simulation owns every entity collection.
+    private final ArenaCommandQueue commands = new ArenaCommandQueue(QUEUE_CAPACITY);
+    private final ArenaCommandQueue effects = new ArenaCommandQueue(QUEUE_CAPACITY);
+    private final ArenaCommandQueue.Handler commandHandler = this::executeCommand;
+    private final ArenaCommandQueue.Handler effectHandler = this::applyEffect;
+    private boolean simulationPaused = false;
+    private int pendingSounds;
+    private int pendingDiamondsGained;
+    private int pendingDiamondsLost;
+    private int pendingKills;
+    private int pendingSpells;
+    private boolean preferencesDirty;
+    private float preferencesSaveTimer;
+    private int unsavedKills;
+    private static final float PREFERENCES_SAVE_INTERVAL = 5f;
+    private Animation<TextureRegion> petAnimation;
+    private Entity petEntity;
+    private float petOffsetX = 2;
+    private float petOffsetY = -20;
+    private float petScale = 0.8f;
+    // Pause button variables
+    private Animation<TextureRegion> pauseButtonAnimation;
+    private TextureRegion pauseButtonIdleFrame;
+    private Rectangle pauseButtonBounds;
+    private float pauseButtonAnimationTime = 0;
+    private static final float PAUSE_BUTTON_WIDTH = 263;
+    private static final float PAUSE_BUTTON_HEIGHT = 114;
+    private static final float PAUSE_BUTTON_MARGIN = 20f;
+    private boolean isPauseButtonPressed = false;
+    private volatile boolean isPaused = false;
+    private final TextureRegion[] hpRegions = new TextureRegion[5];
+    private float soundTimer = 0;
+    private static final float SOUND_INTERVAL = 15f;
+    private int lastPlayedSoundIndex = -1;
+    private static final int PERIODIC_SOUND_COUNT = 4;
+    private int previousHealthLevel = 0;
+    private static final int[] HEALTH_THRESHOLDS = {80, 60, 40, 20};
+    private void setupPauseButton() {
+        pauseButtonIdleFrame = game.getAtlases().hud("pause01");
+        Array<TextureRegion> frames = new Array<>();
+        frames.add(pauseButtonIdleFrame);
+        frames.add(game.getAtlases().hud("pause02"));
+        pauseButtonAnimation = new Animation<>(0.2f, frames);
+
+        updatePauseButtonPosition();
+    }
+
+    private void updatePauseButtonPosition() {
+        float spellX = Gdx.graphics.getWidth() - 450;
+        pauseButtonBounds = new Rectangle(
+            spellX - PAUSE_BUTTON_WIDTH - PAUSE_BUTTON_MARGIN,
+            Gdx.graphics.getHeight() - PAUSE_BUTTON_HEIGHT - PAUSE_BUTTON_MARGIN,
+            PAUSE_BUTTON_WIDTH,
+            PAUSE_BUTTON_HEIGHT
+        );
+    }
+
+
+    private void gameOver() {
+        if (isTransitioning) return;
+        isTransitioning = true;
+        gameOver = true;
+
+        Gdx.app.postRunnable(() -> {
+            game.resetTempUpgrades();
+            game.playgameOverMusic();
+            game.setScreen(level.createGameOverScreen(game));
+        });
+    }
+
+    public ArenaScreen(MyGames game, ArenaLevel level) {
+        this(game, level, null);
+    }
+
+    public ArenaScreen(MyGames game, ArenaLevel level, ArenaRecording replay) {
+        this.game = game;
+        this.level = level;
+        this.replay = replay;
+        this.simulationThread = new ArenaSimulationThread(level.getName(), this::advanceSimulation, DEFAULT_TICK_RATE);
+        resetGameState();
+
+        initialize();
+        if (replay != null) {
+            random.setSeed(replay.getSeed());
+            setTickRate(replay.getTickRate());
+        }
+    }
+
+    // Opens a run recorded with the "recordArenaRuns" setting on in the level it was played on.
+    public static ArenaScreen createReplay(MyGames game, FileHandle file) {
+        ArenaRecording recording = ArenaRecording.read(file);
+        String levelName = recording.getLevelName();
+        if (levelName.equals(ArenaLevel.FOREST.getName())) return create(game, ArenaLevel.FOREST, recording);
+        if (levelName.equals(ArenaLevel.DUNGEON.getName())) return create(game, ArenaLevel.DUNGEON, recording);
+        if (levelName.equals(ArenaLevel.CLOUD.getName())) return create(game, ArenaLevel.CLOUD, recording);
+        throw new GdxRuntimeException("Unknown arena in recording " + file + ": " + levelName);
+    }
+
+    // A new run of this level for the pause screens' replay button. A recorded run being played
+    // back starts over from its first tick instead.
+    public ArenaScreen createRestart() {
+        if (replay != null) replay.rewind();
+        return create(game, level, replay);
+    }
+
+    private static ArenaScreen create(MyGames game, ArenaLevel level, ArenaRecording replay) {
+        if (level == ArenaLevel.DUNGEON) return new DungeonScreen(game, replay);
+        if (level == ArenaLevel.CLOUD) return new CloudScreen(game, replay);
+        return new ForestScreen(game, replay);
+    }
+
+    public ArenaLevel getLevel() {
+        return level;
+    }
+
+    @Override
+    public void show() {
+        level.playMusic(game);
+        Gdx.app.log(level.getName(), "Show called");
+        // Coming back from the pause screen resumes the same run rather than rebuilding it.
+        if (player == null) {
+            loadMap();
+            createPlayer();
+            setupJoystick();
+            setupIslandBounds();
+            loadTextures();
+            setupBombButton();
+            setupPet();
+            setupPauseButton();
+
+            healthFont = new BitmapFont();
+            healthFont.getData().setScale(2f);
+            healthFont.setColor(Color.WHITE);
+            startRecording();
+        }
+
+        Gdx.input.setInputProcessor(new InputMultiplexer(this));
+        resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+
+        lastJoystickInput = 0;
+        joystickInput.set(0);
+        captureSnapshot();
+        threadedSimulation = game.isThreadedSimulation();
+        if (threadedSimulation) {
+            simulationThread.start();
+        }
+    }
+    private void setupPet() {
+        if (petEntity != null) {
+            engine.removeEntity(petEntity);
+            petEntity = null;
+        }
+        try {
+            petAnimation = game.getAnimations().pet(game.getCurrentPet());
+            if (petAnimation != null) createPetEntity();
+        } catch (Exception e) {
+            Gdx.app.error(level.getName(), "Pet setup failed: " + e.getMessage());
+            petAnimation = null;
+        }
+    }
+
+    private void createPetEntity() {
+        TextureRegion frame = petAnimation.getKeyFrame(0);
+        SpriteComponent sprite = engine.createComponent(SpriteComponent.class);
+        sprite.animation = petAnimation;
+        sprite.width = frame.getRegionWidth() * petScale;
+        sprite.height = frame.getRegionHeight() * petScale;
+        PetComponent follower = engine.createComponent(PetComponent.class);
+        follower.offsetX = petOffsetX;
+        follower.offsetY = petOffsetY;
+        PositionComponent position = engine.createComponent(PositionComponent.class);
+        followPlayer(position, follower, sprite);
+        position.set(position.x, position.y);
+
+        petEntity = engine.createEntity();
+        petEntity.add(position);
+        petEntity.add(follower);
+        petEntity.add(sprite);
+        engine.addEntity(petEntity);
+    }
+
+    private void followPlayer(PositionComponent position, PetComponent pet, SpriteComponent sprite) {
+        position.x = player.getX() + (pet.facingRight ? pet.offsetX : -pet.offsetX) + sprite.width / 2f;
+        position.y = player.getY() + pet.offsetY + sprite.height / 2f;
+    }
+
+    private void setupBombButton() {
+        bombButtonRegion = game.getAtlases().hud("bomb");
+        knifeButtonRegion = game.getAtlases().hud("knife");
+        updateBombButtonPosition();
+    }
+
+    private void updateBombButtonPosition() {
+        bombButtonBounds = new Rectangle(
+            Gdx.graphics.getWidth() - BOMB_BUTTON_MARGIN - BOMB_BUTTON_SIZE / 2,
+            BOMB_BUTTON_MARGIN - BOMB_BUTTON_SIZE / 2,
+            BOMB_BUTTON_SIZE,
+            BOMB_BUTTON_SIZE
+        );
+    }
+
+    private void loadTextures() {
+        GameAtlases atlases = game.getAtlases();
+        TextureRegion bombRegion = atlases.arena("bomb");
+        TextureRegion knifeRegion = atlases.arena("knife");
+        spellRegion = atlases.arena("spell");
+
+        bombs = new ProjectileSystem(bombRegion, true, PROJECTILE_CAPACITY, PROJECTILE_LIFETIME);
+        knives = new ProjectileSystem(knifeRegion, false, PROJECTILE_CAPACITY, PROJECTILE_LIFETIME);
+        bombs.setWorldBounds(MAP_WIDTH, MAP_HEIGHT);
+        knives.setWorldBounds(MAP_WIDTH, MAP_HEIGHT);
+
+        monsterIdleRegion = atlases.arena(level.getMonsterIdleSprite());
+        monsterAnimation = game.getAnimations().monsterWalk(level);
+        bombFrames = new TextureRegion[]{bombRegion};
+        knifeFrames = new TextureRegion[]{knifeRegion};
+
+        for (int i = 0; i < hpRegions.length; i++) {
+            hpRegions[i] = atlases.hud("hp" + (i + 1));
+        }
+    }
+
+    private void setupIslandBounds() {
+        islandMinX = level.getIslandMinX();
+        islandMinY = level.getIslandMinY();
+        islandMaxX = level.getIslandMaxX();
+        islandMaxY = level.getIslandMaxY();
+
+        float[] vertices = {
+            islandMinX, islandMinY,
+            islandMinX, islandMaxY,
+            islandMaxX, islandMaxY,
+            islandMaxX, islandMinY
+        };
+        islandBounds = new Polygon(vertices);
+    }
+
+    private void loadMap() {
+        try {
+            tiledMap = new TmxMapLoader().load(level.getMapPath());
+            tiledMapRenderer = new OrthogonalTiledMapRenderer(tiledMap, batch);
+            for (int i = 0; i < tiledMap.getLayers().getCount(); i++) {
+                tiledMap.getLayers().get(i).getProperties().put("textureminfilter", "Nearest");
+                tiledMap.getLayers().get(i).getProperties().put("texturemagfilter", "Nearest");
+            }
+
+            MAP_WIDTH_TILES = tiledMap.getProperties().get("width", Integer.class);
+            MAP_HEIGHT_TILES = tiledMap.getProperties().get("height", Integer.class);
+            TILE_SIZE = tiledMap.getProperties().get("tilewidth", Integer.class);
+            MAP_WIDTH = MAP_WIDTH_TILES * TILE_SIZE;
+            MAP_HEIGHT = MAP_HEIGHT_TILES * TILE_SIZE;
+
+        } catch (Exception e) {
+            Gdx.app.error("MAP", "Load failed: " + e.getMessage());
+            tiledMap = new TiledMap();
+        }
+        createBroadPhase();
+        spawnDirector.setSpawnArea(MAP_WIDTH, MAP_HEIGHT);
+        flowField = FlowField.fromMap(tiledMap, MAP_WIDTH_TILES, MAP_HEIGHT_TILES, TILE_SIZE,
+            level.getIslandMinX(), level.getIslandMinY(), level.getIslandMaxX(), level.getIslandMaxY());
+    }
+
+    private void createBroadPhase() {
+        if (broadPhase != null) broadPhase.dispose();
+        broadPhase = null;
+        box2dBroadPhase = replay != null ? replay.hasFlag(ArenaRecording.FLAG_BOX2D_BROAD_PHASE) : game.isBox2dBroadPhase();
+        if (box2dBroadPhase) {
+            Box2DBroadPhase box2d = new Box2DBroadPhase(TILE_SIZE);
+            box2d.enableContacts(LAYER_PLAYER, LAYER_MONSTER);
+            box2d.enableContacts(LAYER_PLAYER, LAYER_SPELL);
+            box2d.enableContacts(LAYER_KNIFE, LAYER_MONSTER);
+            box2d.enableContacts(LAYER_BOMB, LAYER_MONSTER);
+            broadPhase = box2d;
+        } else {
+            broadPhase = new SpatialHash(TILE_SIZE, MAP_WIDTH_TILES * MAP_HEIGHT_TILES);
+        }
+        collisionGridDirty = true;
+    }
+
+    private void createPlayer() {
+        String hero = getHero();
+        GameAnimations animations = game.getAnimations();
+        float speed = hasSpeedUpgrade() ? PLAYER_SPEED * 3 : PLAYER_SPEED;
+        player = new Player(animations.heroIdle(hero), animations.heroWalk(hero),
+            MAP_WIDTH / 2f, MAP_HEIGHT / 2f,
+            speed);
+
+        PlayerComponent controller = engine.createComponent(PlayerComponent.class);
+        controller.player = player;
+        SpriteComponent sprite = engine.createComponent(SpriteComponent.class);
+        sprite.region = player.getFrame();
+        sprite.width = player.getWidth();
+        sprite.height = player.getHeight();
+        playerEntity = engine.createEntity();
+        playerEntity.add(engine.createComponent(PositionComponent.class).set(player.getX(), player.getY()));
+        playerEntity.add(sprite);
+        playerEntity.add(controller);
+        engine.addEntity(playerEntity);
+    }
+
+    private void setupJoystick() {
+        joystick = new Joystick(game.getAtlases().hud("knob"), game.getAtlases().hud("base"),
+            JOYSTICK_MARGIN, JOYSTICK_MARGIN, JOYSTICK_SIZE / 2);
+    }
+
+    @Override
+    public void render(float delta) {
+        Gdx.gl.glClearColor(0.1f, 0.1f, 0.1f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        if (gameOver || player == null || tiledMapRenderer == null || batch == null) {
+            return;
+        }
+
+        if (!threadedSimulation) {
+            advanceSimulation(delta);
+        }
+        applyEffects();
+        autosavePreferences(delta);
+
+        ArenaSnapshot snapshot = snapshots.acquire();
+        float alpha = threadedSimulation ? getSnapshotAlpha(snapshot) : renderAlpha;
+        renderGameWorld(snapshot, alpha);
+        renderUI(snapshot);
+    }
+
+    // Runs on the simulation thread in threaded mode, otherwise inline from render().
+    private void advanceSimulation(float delta) {
+        commands.drain(commandHandler);
+        if (simulationPaused || gameOver) return;
+
+        int steps = timestep.advance(delta);
+        for (int i = 0; i < steps && !gameOver; i++) {
+            if (replay != null) replay.replay(tickCount, replayHandler);
+            readJoystickInput();
+            savePreviousPositions();
+            update(timestep.getStepDuration());
+            publishEffects();
+            tickCount++;
+        }
+        renderAlpha = timestep.getAlpha();
+        if (steps > 0) {
+            captureSnapshot();
+        }
+    }
+
+    private void captureSnapshot() {
+        ArenaSnapshot snapshot = snapshots.getBackBuffer();
+        PositionComponent playerPosition = POSITION.get(playerEntity);
+        snapshot.playerPrevX = playerPosition.prevX;
+        snapshot.playerPrevY = playerPosition.prevY;
+        snapshot.playerX = playerPosition.x;
+        snapshot.playerY = playerPosition.y;
+        snapshot.playerHealth = playerHealth;
+        snapshot.bombCooldown = bombCooldown;
+
+        ArenaSnapshot.Layer layer = snapshot.monsters;
+        layer.clear();
+        for (int i = 0; i < monsters.size; i++) {
+            int frame = monsterAnimation.getKeyFrameIndex(monsters.animTimer[i]);
+            layer.add(monsters.prevX[i], monsters.prevY[i], monsters.x[i], monsters.y[i], frame,
+                monsters.isFading(i) ? monsters.fadeTimer[i] : 1f, monsters.getArchetype(i).getScale());
+        }
+        bombs.capture(snapshot.bombs);
+        knives.capture(snapshot.knives);
+
+        spriteCapture.capture(snapshot.sprites);
+
+        snapshot.tick = tickCount;
+        snapshot.publishedAt = System.nanoTime();
+        snapshots.publish();
+    }
+
+    private float getSnapshotAlpha(ArenaSnapshot snapshot) {
+        float elapsed = (System.nanoTime() - snapshot.publishedAt) / 1_000_000_000f;
+        return MathUtils.clamp(elapsed / timestep.getStepDuration(), 0f, 1f);
+    }
+
+    private void startRecording() {
+        if (replay != null || !game.isRecordingArenaRuns()) return;
+        int flags = 0;
+        if (hasSpeedUpgrade()) flags |= ArenaRecording.FLAG_SPEED_UPGRADE;
+        if (hasKnifeUpgrade()) flags |= ArenaRecording.FLAG_KNIFE_UPGRADE;
+        if (hasAutoSpellUpgrade()) flags |= ArenaRecording.FLAG_AUTO_SPELL_UPGRADE;
+        if (box2dBroadPhase) flags |= ArenaRecording.FLAG_BOX2D_BROAD_PHASE;
+        recording = new ArenaRecording(level.getName(), random.getSeed(), timestep.getTickRate(), getHero(), flags);
+        lastRecordedJoystickInput = 0;
+    }
+
+    private void saveRecording() {
+        if (recording == null) return;
+        FileHandle file = Gdx.files.local("replays/" + level.getName() + "-" + Long.toHexString(random.getSeed()) + ".ssr");
+        try {
+            recording.write(file);
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error(level.getName(), "Could not save recording", e);
+        }
+    }
+
+    private void applyReplayEvent(int type, int value) {
+        switch (type) {
+            case ArenaRecording.EVENT_JOYSTICK:
+                replayJoystickInput = value;
+                break;
+            case ArenaRecording.EVENT_FIRE:
+                fire();
+                break;
+        }
+    }
+
+    private boolean hasSpeedUpgrade() {
+        if (replay != null) return replay.hasFlag(ArenaRecording.FLAG_SPEED_UPGRADE);
+        return game.isSpeedUpgradeActive() || game.isTempSpeedUpgradeActive();
+    }
+
+    private boolean hasKnifeUpgrade() {
+        if (replay != null) return replay.hasFlag(ArenaRecording.FLAG_KNIFE_UPGRADE);
+        return game.isKnifeUpgradeActive() || game.isTempKnifeUpgradeActive();
+    }
+
+    private boolean hasAutoSpellUpgrade() {
+        if (replay != null) return replay.hasFlag(ArenaRecording.FLAG_AUTO_SPELL_UPGRADE);
+        return game.isAutoSpellUpgradeActive() || game.isTempAutoSpellUpgradeActive();
+    }
+
+    private String getHero() {
+        return replay != null ? replay.getHero() : game.getCurrentHero();
+    }
+
+    public boolean isReplay() {
+        return replay != null;
+    }
+
+    private void readJoystickInput() {
+        int input = replay != null ? replayJoystickInput : joystickInput.get();
+        if (recording != null && input != lastRecordedJoystickInput) {
+            recording.record(tickCount, ArenaRecording.EVENT_JOYSTICK, input);
+            lastRecordedJoystickInput = input;
+        }
+        moveDirection.set((short) (input >> 16) / 32767f, (short) input / 32767f);
+    }
+
+    private void sendJoystickInput() {
+        Vector2 direction = joystick.getDirection();
+        int input = ((Math.round(direction.x * 32767) & 0xFFFF) << 16) | (Math.round(direction.y * 32767) & 0xFFFF);
+        if (input != lastJoystickInput) {
+            lastJoystickInput = input;
+            joystickInput.set(input);
+        }
+    }
+
+    public boolean isThreadedSimulation() {
+        return threadedSimulation;
+    }
+
+    // Runs ticks back to back without drawing, for the headless runner. The screen must have
+    // been shown and must not be running its simulation thread.
+    public void simulate(int ticks) {
+        for (int i = 0; i < ticks && !gameOver; i++) {
+            advanceSimulation(timestep.getStepDuration());
+            applyEffects();
+        }
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public void setTickRate(int ticksPerSecond) {
+        timestep.setTickRate(ticksPerSecond);
+        simulationThread.setTickRate(ticksPerSecond);
+    }
+
+    public void setMaxCatchUpSteps(int maxCatchUpSteps) {
+        timestep.setMaxCatchUpSteps(maxCatchUpSteps);
+    }
+
+    private void savePreviousPositions() {
+        monsters.savePrevious();
+        bombs.savePrevious();
+        knives.savePrevious();
+        for (Entity entity : positionedEntities) {
+            PositionComponent position = POSITION.get(entity);
+            position.prevX = position.x;
+            position.prevY = position.y;
+        }
+    }
+
+    private void executeCommand(int type, int value) {
+        switch (type) {
+            case COMMAND_FIRE:
+                // A replay fires from the recording only.
+                if (replay == null && bombCooldown <= 0 && !simulationPaused && !gameOver) {
+                    if (recording != null) recording.record(tickCount, ArenaRecording.EVENT_FIRE, 0);
+                    fire();
+                }
+                break;
+            case COMMAND_PAUSE:
+                simulationPaused = true;
+                if (recording != null) recording.record(tickCount, ArenaRecording.EVENT_PAUSE, 0);
+                break;
+            case COMMAND_RESUME:
+                simulationPaused = false;
+                if (recording != null) recording.record(tickCount, ArenaRecording.EVENT_RESUME, 0);
+                break;
+        }
+    }
+
+    private void fire() {
+        launchBombToNearestMonster();
+        bombCooldown = BOMB_COOLDOWN_TIME;
+    }
+
+    private void playSound(int sound) {
+        pendingSounds |= 1 << sound;
+    }
+
+    // Collapses one tick of economy changes into a handful of effects for the render thread.
+    private void publishEffects() {
+        if (pendingSounds != 0 && effects.offer(EFFECT_SOUND, pendingSounds)) pendingSounds = 0;
+        if (pendingDiamondsGained != 0 && effects.offer(EFFECT_DIAMONDS_GAINED, pendingDiamondsGained)) pendingDiamondsGained = 0;
+        if (pendingDiamondsLost != 0 && effects.offer(EFFECT_DIAMONDS_LOST, pendingDiamondsLost)) pendingDiamondsLost = 0;
+        if (pendingKills != 0 && effects.offer(EFFECT_KILLS, pendingKills)) pendingKills = 0;
+        if (pendingSpells != 0 && effects.offer(EFFECT_SPELLS_COLLECTED, pendingSpells)) pendingSpells = 0;
+    }
+
+    private void applyEffects() {
+        effects.drain(effectHandler);
+    }
+
+    // A preferences flush rewrites the whole file, so a run's economy changes are saved every
+    // few seconds and when the screen goes away instead of on every tick that changes them.
+    private void autosavePreferences(float delta) {
+        preferencesSaveTimer += delta;
+        if (preferencesSaveTimer >= PREFERENCES_SAVE_INTERVAL) {
+            preferencesSaveTimer = 0;
+            savePreferencesIfDirty();
+        }
+    }
+
+    private void savePreferencesIfDirty() {
+        if (unsavedKills > 0) {
+            recordKills(unsavedKills);
+            unsavedKills = 0;
+        }
+        if (preferencesDirty) {
+            game.savePreferences();
+            preferencesDirty = false;
+        }
+    }
+
+    private void applyEffect(int type, int value) {
+        switch (type) {
+            case EFFECT_SOUND:
+                for (int sound = 0; sound < SOUND_COUNT; sound++) {
+                    if ((value & (1 << sound)) != 0) playSoundNow(sound);
+                }
+                break;
+            case EFFECT_DIAMONDS_GAINED:
+                MyGames.diamonds += value;
+                preferencesDirty = true;
+                break;
+            case EFFECT_DIAMONDS_LOST:
+                MyGames.diamonds = Math.max(0, MyGames.diamonds - value);
+                preferencesDirty = true;
+                break;
+            case EFFECT_KILLS:
+                unsavedKills += value;
+                preferencesDirty = true;
+                break;
+            case EFFECT_SPELLS_COLLECTED:
+                game.spellsCollected += value;
+                preferencesDirty = true;
+                break;
+        }
+    }
+
+    private void playSoundNow(int sound) {
+        switch (sound) {
+            case SOUND_KNIFE:
+                game.playKnifeSound();
+                break;
+            case SOUND_BOMB:
+                game.playBombSound();
+                break;
+            case SOUND_SPELL_COLLECT:
+                game.playSpellCollectSound();
+                break;
+            case SOUND_PLAYER_HURT:
+                game.playPlayerHurtSound();
+                break;
+            case SOUND_MONSTER_DEATH:
+                game.playMonsterDeathSound();
+                break;
+            case SOUND_FREEZE:
+                game.playFreezeSound();
+                break;
+            case SOUND_HEAL:
+                game.playHealSound();
+                break;
+            case SOUND_TWISTER:
+                game.playTwisterSound();
+                break;
+            case SOUND_HELLSTORM:
+                game.playHellstormSound();
+                break;
+        }
+    }
+
+    private void update(float delta) {
+        if (gameOver || simulationPaused) return;
+        timeSinceStart += delta;
+        bombCooldown -= delta;
+        spellSpawnTimer += delta;
+
+        if (playerHealth <= 0 && !isTransitioning) {
+            gameOver();
+            return;
+        }
+        soundTimer += delta;
+        if (soundTimer >= SOUND_INTERVAL) {
+            playRandomPeriodicSound();
+            soundTimer = 0;
+        }
+
+        if (!spellCollected) {
+            if (spellEntity == null && timeSinceStart > SPELL_SPAWN_DELAY && spellSpawnTimer >= SPELL_RESPAWN_INTERVAL) {
+                spawnSpell();
+                spellSpawnTimer = 0;
+            }
+        } else {
+            spellSpawnTimer += delta;
+            if (spellSpawnTimer >= SPELL_RESPAWN_INTERVAL) {
+                spellCollected = false;
+                spellSpawnTimer = 0;
+            }
+        }
+
+        engine.update(delta);
+        if (gameOver) return;
+
+        if (hasAutoSpellUpgrade() &&
+            spellEntity != null && !spellCollected) {
+            collectSpell(spellEntity);
+            spellSpawnTimer = 0;
+        }
+
+        metrics.update(monsters, bombs, knives);
+        metricsLogTimer += delta;
+        if (metricsLogTimer >= METRICS_LOG_INTERVAL) {
+            metrics.log(level.getName());
+            metricsLogTimer = 0;
+        }
+    }
+
+    // Same seed plus the same input sequence gives the same run. Set it before the arena is shown.
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    public long getSeed() {
+        return random.getSeed();
+    }
+
+    public ArenaMetrics getMetrics() {
+        return metrics;
+    }
+    private void playRandomPeriodicSound() {
+        int randomIndex;
+        if (lastPlayedSoundIndex >= 0) {
+            randomIndex = random.getAudio().nextInt(PERIODIC_SOUND_COUNT - 1);
+            if (randomIndex >= lastPlayedSoundIndex) randomIndex++;
+        } else {
+            randomIndex = random.getAudio().nextInt(PERIODIC_SOUND_COUNT);
+        }
+
+        playSound(SOUND_FREEZE + randomIndex);
+
+        lastPlayedSoundIndex = randomIndex;
+    }
+    public void setPaused(boolean paused) {
+        this.isPaused = paused;
+        commands.offer(paused ? COMMAND_PAUSE : COMMAND_RESUME);
+    }
+
+    public boolean isPaused() {
+        return isPaused;
+    }
+
+    private void spawnSpell() {
+        float spawnX = ArenaRandom.range(random.getSpells(), islandMinX, islandMaxX);
+        float spawnY = ArenaRandom.range(random.getSpells(), islandMinY, islandMaxY);
+
+        PositionComponent position = engine.createComponent(PositionComponent.class).set(spawnX, spawnY);
+        ColliderComponent collider = engine.createComponent(ColliderComponent.class);
+        collider.width = SPELL_SIZE;
+        collider.height = SPELL_SIZE;
+        collider.layer = LAYER_SPELL;
+        SpriteComponent sprite = engine.createComponent(SpriteComponent.class);
+        sprite.region = spellRegion;
+        sprite.width = SPELL_SIZE;
+        sprite.height = SPELL_SIZE;
+        PickupComponent pickup = engine.createComponent(PickupComponent.class);
+        pickup.bobSpeed = SPELL_ANIMATION_SPEED;
+        pickup.bobHeight = SPELL_ANIMATION_HEIGHT;
+
+        spellEntity = engine.createEntity();
+        spellEntity.add(position);
+        spellEntity.add(engine.createComponent(VelocityComponent.class));
+        spellEntity.add(collider);
+        spellEntity.add(sprite);
+        spellEntity.add(pickup);
+        engine.addEntity(spellEntity);
+    }
+
+    // The pickup stops colliding and bobbing at once, and fades out instead of vanishing.
+    private void collectSpell(Entity spell) {
+        pendingSpells++;
+        spellCollected = true;
+        spellEntity = null;
+
+        spell.remove(ColliderComponent.class);
+        spell.remove(PickupComponent.class);
+        spell.remove(VelocityComponent.class);
+        FadeComponent fade = engine.createComponent(FadeComponent.class);
+        fade.timer = fade.duration = SPELL_FADE_DURATION;
+        spell.add(fade);
+        collisionGridDirty = true;
+    }
+
+    private void launchKnives() {
+        playSound(SOUND_KNIFE);
+        int knivesToLaunch = hasKnifeUpgrade() ? 2 : 1;
+
+        if (monsters.size == 0) {
+            for (int i = 0; i < knivesToLaunch; i++) {
+                fireKnife(i % 2 == 0 ? 1 : -1, 0);
+            }
+            return;
+        }
+
+        int found = findNearestMonsters(2);
+        if (found == 0) return;
+
+        int nearestMonster = nearestMonsters.get(0);
+        float nearestDx = monsters.x[nearestMonster] - player.getX();
+        float nearestDy = monsters.y[nearestMonster] - player.getY();
+        fireKnife(nearestDx, nearestDy);
+
+        if (found > 1) {
+            int secondMonster = nearestMonsters.get(1);
+            fireKnife(monsters.x[secondMonster] - player.getX(), monsters.y[secondMonster] - player.getY());
+        } else {
+            fireKnife(-nearestDx, -nearestDy);
+        }
+    }
+
+    // Fills nearestMonsters with the indices of up to count non-fading monsters, closest first.
+    private int findNearestMonsters(int count) {
+        if (collisionGridDirty) rebuildCollisionGrid();
+        int found = broadPhase.queryNearest(player.getX(), player.getY(), count, 1 << LAYER_MONSTER, nearestMonsters);
+        for (int i = 0; i < found; i++) {
+            nearestMonsters.set(i, broadPhase.getId(nearestMonsters.get(i)));
+        }
+        return found;
+    }
+
+    private void fireKnife(float directionX, float directionY) {
+        float length = (float) Math.sqrt(directionX * directionX + directionY * directionY);
+        if (length != 0) {
+            directionX /= length;
+            directionY /= length;
+        }
+        knives.launch(player.getX(), player.getY(), directionX * KNIFE_SPEED, directionY * KNIFE_SPEED);
+    }
+
+    private void fireBomb(float directionX, float directionY) {
+        float length = (float) Math.sqrt(directionX * directionX + directionY * directionY);
+        if (length != 0) {
+            directionX /= length;
+            directionY /= length;
+        }
+        bombs.launch(player.getX(), player.getY(), directionX * BOMB_SPEED, directionY * BOMB_SPEED);
+        playSound(SOUND_BOMB);
+    }
+
+    private void launchBombToNearestMonster() {
+        if (hasKnifeUpgrade()) {
+            launchKnives();
+            return;
+        }
+
+        if (monsters.size == 0) {
+            fireBomb(player.isFacingRight() ? 1 : -1, 0);
+            return;
+        }
+
+        if (findNearestMonsters(1) > 0) {
+            int nearestMonster = nearestMonsters.get(0);
+            fireBomb(monsters.x[nearestMonster] - player.getX(), monsters.y[nearestMonster] - player.getY());
+        }
+    }
+
+    private void updateMonsters(float delta) {
+        if (gameOver || player == null) return;
+
+        // The throttle view is the design-size view around the player, not the real camera: which
+        // monsters steer on which tick must not depend on the device's screen, and the camera
+        // belongs to the render thread.
+        float halfWidth = LOD_VIEW_WIDTH / 2f;
+        float halfHeight = LOD_VIEW_HEIGHT / 2f;
+        float cameraX = MathUtils.clamp(player.getX(), halfWidth, MAP_WIDTH - halfWidth);
+        float cameraY = MathUtils.clamp(player.getY(), halfHeight, MAP_HEIGHT - halfHeight);
+        monsters.setView(cameraX - halfWidth - VIEW_MARGIN, cameraY - halfHeight - VIEW_MARGIN,
+            cameraX + halfWidth + VIEW_MARGIN, cameraY + halfHeight + VIEW_MARGIN);
+
+        flowField.setTarget(player.getX(), player.getY());
+        monsters.update(flowField, player.getX(), player.getY(), delta);
+        collisionGridDirty = true;
+    }
+
+    private void resolveCollisions() {
+        if (gameOver || player == null) return;
+
+        rebuildCollisionGrid();
+        collectSpells();
+        if (hurtPlayer()) return;
+
+        for (int i = 0; i < knives.size(); i++) {
+            Projectile knife = knives.get(i);
+            if (!knife.isFading() && hitMonstersTouching(firstKnifeEntry + i, true) > 0) {
+                knife.startFading(0.5f);
+            }
+        }
+        for (int i = 0; i < bombs.size(); i++) {
+            Projectile bomb = bombs.get(i);
+            if (!bomb.isFading() && hitMonstersTouching(firstBombEntry + i, false) > 0) {
+                bomb.startFading(0.5f);
+            }
+        }
+    }
+
+    private void rebuildCollisionGrid() {
+        broadPhase.clear();
+        collisionGridDirty = false;
+
+        Rectangle bounds = player.getBoundingRectangle();
+        playerEntry = broadPhase.insert(LAYER_PLAYER, 0, bounds.x, bounds.y, bounds.width, bounds.height);
+
+        for (int i = 0; i < monsters.size; i++) {
+            if (monsters.isFading(i)) continue;
+            bounds = getMonsterBounds(i);
+            broadPhase.insert(LAYER_MONSTER, i, bounds.x, bounds.y, bounds.width, bounds.height);
+        }
+        firstKnifeEntry = broadPhase.getEntryCount();
+        for (int i = 0; i < knives.size(); i++) {
+            bounds = knives.get(i).getBoundingRectangle();
+            broadPhase.insert(LAYER_KNIFE, i, bounds.x, bounds.y, bounds.width, bounds.height);
+        }
+        firstBombEntry = broadPhase.getEntryCount();
+        for (int i = 0; i < bombs.size(); i++) {
+            bounds = bombs.get(i).getBoundingRectangle();
+            broadPhase.insert(LAYER_BOMB, i, bounds.x, bounds.y, bounds.width, bounds.height);
+        }
+        for (int i = 0; i < colliderEntities.size(); i++) {
+            Entity entity = colliderEntities.get(i);
+            PositionComponent position = POSITION.get(entity);
+            ColliderComponent collider = COLLIDER.get(entity);
+            broadPhase.insert(collider.layer, i, position.x - collider.width / 2f, position.y - collider.height / 2f,
+                collider.width, collider.height);
+        }
+    }
+
+    private void collectSpells() {
+        int hits = broadPhase.queryContacts(playerEntry, 1 << LAYER_SPELL, collisionHits);
+        if (hits == 0) return;
+
+        playSound(SOUND_SPELL_COLLECT);
+        for (int h = hits - 1; h >= 0; h--) {
+            collectSpell(colliderEntities.get(broadPhase.getId(collisionHits.get(h))));
+        }
+    }
+
+    private boolean hurtPlayer() {
+        int hits = broadPhase.queryContacts(playerEntry, 1 << LAYER_MONSTER, collisionHits);
+        for (int h = 0; h < hits; h++) {
+            int i = broadPhase.getId(collisionHits.get(h));
+            playerHealth -= 10;
+            playSound(SOUND_PLAYER_HURT);
+            pendingDiamondsLost += 10;
+            pendingKills++;
+            monsters.startFading(i, 0.5f);
+            collisionGridDirty = true;
+
+            if (playerHealth <= 0 && !isTransitioning) {
+                gameOver();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Only knife kills count towards the award totals; bomb kills just pay diamonds.
+    private int hitMonstersTouching(int projectileEntry, boolean countsKills) {
+        int hits = broadPhase.queryContacts(projectileEntry, 1 << LAYER_MONSTER, collisionHits);
+        int landed = 0;
+        for (int h = 0; h < hits; h++) {
+            int i = broadPhase.getId(collisionHits.get(h));
+            if (monsters.isFading(i)) continue;
+
+            landed++;
+            if (--monsters.health[i] > 0) continue;
+
+            monsters.startFading(i, 1f);
+            collisionGridDirty = true;
+            playSound(SOUND_MONSTER_DEATH);
+            // Five diamonds per wave so far, as when the wave number was the per-wave monster count.
+            pendingDiamondsGained += 5 * spawnDirector.getWave();
+            if (countsKills) pendingKills++;
+        }
+        return landed;
+    }
+
+    private Rectangle getMonsterBounds(int i) {
+        float scale = monsters.getArchetype(i).getScale();
+        float width = monsterIdleRegion.getRegionWidth() * scale;
+        float height = monsterIdleRegion.getRegionHeight() * scale;
+        return monsterBounds.set(monsters.x[i] - width / 2f, monsters.y[i] - height / 2f, width, height);
+    }
+
+    private void drawLayer(TextureRegion[] frames, ArenaSnapshot.Layer layer, float alpha) {
+        for (int i = 0; i < layer.size; i++) {
+            float x = layer.getX(i, alpha);
+            float y = layer.getY(i, alpha);
+            TextureRegion frame = frames[layer.frame[i]];
+            float width = frame.getRegionWidth() * layer.scale[i];
+            float height = frame.getRegionHeight() * layer.scale[i];
+            if (isOutsideView(x, y, width, height)) {
+                culledSprites++;
+                continue;
+            }
+            drawnSprites++;
+
+            boolean fading = layer.alpha[i] < 1f;
+            if (fading) {
+                batch.setColor(1, 1, 1, layer.alpha[i]);
+            }
+
+            batch.draw(frame, x - width / 2f, y - height / 2f, width, height);
+
+            if (fading) {
+                batch.setColor(1, 1, 1, 1);
+            }
+        }
+    }
+
+    private boolean isOutsideView(float x, float y, float width, float height) {
+        float halfWidth = width / 2f;
+        float halfHeight = height / 2f;
+        return x + halfWidth < viewLeft || x - halfWidth > viewRight
+            || y + halfHeight < viewBottom || y - halfHeight > viewTop;
+    }
+
+    private void recordKills(int kills) {
+        if (level.tracksKills()) {
+            // Every kill has always counted twice towards the award totals.
+            MyGames.addMonstersKilled(kills * 2);
+        }
+    }
+
+    private void renderGameWorld(ArenaSnapshot snapshot, float alpha) {
+        float playerX = snapshot.getPlayerX(alpha);
+        float playerY = snapshot.getPlayerY(alpha);
+        gameCamera.position.set(
+            MathUtils.clamp(playerX, gameCamera.viewportWidth / 2, MAP_WIDTH - gameCamera.viewportWidth / 2),
+            MathUtils.clamp(playerY, gameCamera.viewportHeight / 2, MAP_HEIGHT - gameCamera.viewportHeight / 2),
+            0
+        );
+        worldTarget.snapCamera();
+        float halfWidth = gameCamera.viewportWidth * gameCamera.zoom / 2f;
+        float halfHeight = gameCamera.viewportHeight * gameCamera.zoom / 2f;
+        viewLeft = gameCamera.position.x - halfWidth;
+        viewRight = gameCamera.position.x + halfWidth;
+        viewBottom = gameCamera.position.y - halfHeight;
+        viewTop = gameCamera.position.y + halfHeight;
+        drawnSprites = 0;
+        culledSprites = 0;
+
+        worldTarget.begin(0.1f, 0.1f, 0.1f);
+        tiledMapRenderer.setView(gameCamera);
+        tiledMapRenderer.render();
+
+        batch.setProjectionMatrix(gameCamera.combined);
+        batch.begin();
+        drawLayer(monsterAnimation.getKeyFrames(), snapshot.monsters, alpha);
+        drawLayer(bombFrames, snapshot.bombs, alpha);
+        drawLayer(knifeFrames, snapshot.knives, alpha);
+        drawSprites(snapshot.sprites, alpha);
+        batch.end();
+        worldTarget.end();
+        worldTarget.draw(batch);
+        metrics.recordDrawCounts(drawnSprites, culledSprites);
+    }
+
+    private void drawSprites(ArenaSnapshot.SpriteLayer layer, float alpha) {
+        for (int i = 0; i < layer.size; i++) {
+            float x = layer.getX(i, alpha);
+            float y = layer.getY(i, alpha);
+            float width = layer.width[i];
+            float height = layer.height[i];
+            if (isOutsideView(x, y, width, height)) {
+                culledSprites++;
+                continue;
+            }
+            drawnSprites++;
+
+            boolean fading = layer.alpha[i] < 1f;
+            if (fading) {
+                batch.setColor(1, 1, 1, layer.alpha[i]);
+            }
+
+            if (layer.flipX[i]) {
+                batch.draw(layer.region[i], x + width / 2f, y - height / 2f, -width, height);
+            } else {
+                batch.draw(layer.region[i], x - width / 2f, y - height / 2f, width, height);
+            }
+
+            if (fading) {
+                batch.setColor(1, 1, 1, 1);
+            }
+        }
+    }
+
+    private void renderUI(ArenaSnapshot snapshot) {
+        uiViewport.apply();
+        batch.setProjectionMatrix(uiCamera.combined);
+        batch.begin();
+        TextureRegion pauseFrame;
+        if (isPauseButtonPressed) {
+            pauseButtonAnimationTime += Gdx.graphics.getDeltaTime();
+            pauseFrame = pauseButtonAnimation.getKeyFrame(pauseButtonAnimationTime);
+        } else {
+            pauseFrame = pauseButtonIdleFrame;
+        }
+
+        batch.draw(pauseFrame,
+            pauseButtonBounds.x, pauseButtonBounds.y,
+            PAUSE_BUTTON_WIDTH, PAUSE_BUTTON_HEIGHT);
+
+        joystick.draw(batch);
+
+        float alpha = snapshot.bombCooldown > 0 ? 0.5f : 1f;
+        batch.setColor(1, 1, 1, alpha);
+
+        if (hasKnifeUpgrade()) {
+            float knifeWidth = knifeButtonRegion.getRegionWidth();
+            float knifeHeight = knifeButtonRegion.getRegionHeight();
+            float scale = BOMB_BUTTON_SIZE / knifeHeight;
+            float scaledWidth = knifeWidth * scale;
+            float scaledHeight = knifeHeight * scale;
+            float x = bombButtonBounds.x + (bombButtonBounds.width - scaledWidth) / 2;
+            float y = bombButtonBounds.y + (bombButtonBounds.height - scaledHeight) / 2;
+            batch.draw(knifeButtonRegion, x, y, scaledWidth, scaledHeight);
+        } else {
+            batch.draw(bombButtonRegion,
+                bombButtonBounds.x, bombButtonBounds.y,
+                bombButtonBounds.width, bombButtonBounds.height);
+        }
+
+        batch.setColor(1, 1, 1, 1);
+
+        int playerHealth = snapshot.playerHealth;
+        int hpIndex;
+        if (playerHealth > 80) hpIndex = 0;
+        else if (playerHealth > 60) hpIndex = 1;
+        else if (playerHealth > 40) hpIndex = 2;
+        else if (playerHealth > 20) hpIndex = 3;
+        else hpIndex = 4;
+        if (hpIndex != previousHealthLevel) {
+            game.playLessHpSound();
+            previousHealthLevel = hpIndex;
+        }
+        float hpWidth = 441;
+        float hpHeight = 108f;
+
+        batch.draw(hpRegions[hpIndex], 40, uiViewport.getScreenHeight() - 120, hpWidth, hpHeight);
+
+
+        // healthFont.draw(batch, "HP: " + playerHealth + "%", 40, uiViewport.getScreenHeight() - 40);
+
+        if (resourceCounter != null) {
+            resourceCounter.draw(batch, MyGames.diamonds, game.spellsCollected,
+                Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        }
+
+        batch.end();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        worldTarget.resize(width, height);
+        uiViewport.update(width, height, true);
+        uiCamera.setToOrtho(false, width, height);
+        uiCamera.position.set(width / 2f, height / 2f, 0);
+        uiCamera.update();
+        joystick.setPosition(JOYSTICK_MARGIN, JOYSTICK_MARGIN);
+        updateBombButtonPosition();
+        updatePauseButtonPosition();
+
+    }
+
+    @Override
+    public void dispose() {
+        simulationThread.stop();
+        if (!isPaused) {
+            engine.removeAllEntities();
+            if (broadPhase != null) broadPhase.dispose();
+            if (tiledMap != null) tiledMap.dispose();
+            if (worldTarget != null) worldTarget.dispose();
+            if (player != null) player.dispose();
+            if (healthFont != null) healthFont.dispose();
+            if (font != null) font.dispose();
+            broadPhase = null;
+            worldTarget = null;
+            healthFont = null;
+            font = null;
+            tiledMap = null;
+            tiledMapRenderer = null;
+            player = null;
+            joystick = null;
+            batch = null;
+
+        }}
+
+    @Override
+    public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        touchPos.set(screenX, screenY, 0);
+        uiViewport.unproject(touchPos);
+        activePointers.add(pointer);
+
+        // Обработка кнопки паузы
+        if (pauseButtonBounds.contains(touchPos.x, touchPos.y)) {
+            game.playClickSound();
+            isPauseButtonPressed = true;
+            pauseButtonAnimationTime = 0;
+            return true;
+        }
+
+        // Обработка кнопки стрельбы
+        if (bombButtonBounds.contains(touchPos.x, touchPos.y)) {
+            commands.offer(COMMAND_FIRE);
+            return true;
+        }
+
+        // Обработка джойстика
+        if (pointer == 0) {
+            joystick.handleTouch(touchPos.x, touchPos.y, true);
+            sendJoystickInput();
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean touchDragged(int screenX, int screenY, int pointer) {
+        touchPos.set(screenX, screenY, 0);
+        uiViewport.unproject(touchPos);
+
+        // Если это первое касание (джойстик)
+        if (pointer == 0) {
+            joystick.handleTouch(touchPos.x, touchPos.y, false);
+            sendJoystickInput();
+        }
+
+        return true;
+    }
+    @Override
+    public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+        touchPos.set(screenX, screenY, 0);
+        uiViewport.unproject(touchPos);
+        activePointers.remove(pointer);
+
+        if (isPauseButtonPressed && pauseButtonBounds.contains(touchPos.x, touchPos.y)) {
+            Gdx.app.log("PauseButton", "Pause button pressed");
+            this.setPaused(true);
+            game.setScreen(level.createPauseScreen(game, this));
+            isPauseButtonPressed = false;
+            return true;
+        }
+
+        if (pointer == 0) {
+            joystick.reset();
+            sendJoystickInput();
+        }
+
+        isPauseButtonPressed = false;
+        return true;
+    }
+
+    @Override
+    public void pause() {
+        simulationThread.stop();
+        savePreferencesIfDirty();
+    }
+    @Override
+    public void resume() {
+        if (threadedSimulation && player != null) {
+            simulationThread.start();
+        }
+    }
+    @Override
+    public void hide() {
+        simulationThread.stop();
+        savePreferencesIfDirty();
+        saveRecording();
+    }
+    @Override
+    public boolean keyDown(int keycode) {
+        return false;
+    }
+    @Override
+    public boolean keyUp(int keycode) {
+        return false;
+    }
+    @Override
+    public boolean keyTyped(char character) {
+        return false;
+    }
+    @Override
+    public boolean mouseMoved(int screenX, int screenY) {
+        return false;
+    }
+    @Override
+    public boolean scrolled(float amountX, float amountY) {
+        return false;
+    }
+    @Override
+    public boolean touchCancelled(int screenX, int screenY, int pointer, int button) {
+        return false;
+    }
+
+    private void resetGameState() {
+        playerHealth = 100;
+        timeSinceStart = 0;
+        spawnDirector.reset();
+        spellCollected = false;
+        spellSpawnTimer = 0;
+        if (spellEntity != null) {
+            engine.removeEntity(spellEntity);
+            spellEntity = null;
+        }
+        commands.clear();
+        effects.clear();
+        if (monsters != null) monsters.clear();
+        if (bombs != null) bombs.clear();
+        if (knives != null) knives.clear();
+    }
+
+    private void initialize() {
+        this.gameCamera = new OrthographicCamera();
+        this.worldTarget = new WorldRenderTarget(gameCamera, (int) (MyGames.WIDTH / INITIAL_ZOOM), (int) (MyGames.HEIGHT / INITIAL_ZOOM));
+        this.uiCamera = new OrthographicCamera();
+        this.uiViewport = new ScreenViewport(uiCamera);
+        this.batch = game.getBatch();
+
+        monsters = new MonsterStore(MAX_LIVE_MONSTERS);
+        font = new BitmapFont();
+        font.getData().setScale(3f);
+        resourceCounter = new ResourceCounter(font, game.getAtlases().hud("stone"), game.getAtlases().hud("spell"));
+        setupEngine();
+    }
+
+    private void setupEngine() {
+        positionedEntities = engine.getEntitiesFor(Family.all(PositionComponent.class).get());
+        colliderEntities = engine.getEntitiesFor(Family.all(PositionComponent.class, ColliderComponent.class).get());
+
+        engine.addSystem(new ProjectileMotionSystem(0));
+        engine.addSystem(new PlayerMotionSystem(1));
+        engine.addSystem(new MonsterSteeringSystem(2));
+        engine.addSystem(new PetSystem(3));
+        engine.addSystem(new PickupSystem(4));
+        engine.addSystem(new MovementSystem(5));
+        engine.addSystem(new FadeSystem(6));
+        engine.addSystem(new CollisionSystem(7));
+        engine.addSystem(new SpawnSystem(8));
+        spriteCapture = new SpriteCaptureSystem(9);
+        engine.addSystem(spriteCapture);
+    }
+
+    private class ProjectileMotionSystem extends ProfiledSystem {
+        ProjectileMotionSystem(int priority) {
+            super(priority, metrics);
+        }
+
+        @Override
+        protected void step(float deltaTime) {
+            knives.update(deltaTime);
+            bombs.update(deltaTime);
+        }
+    }
+
+    private class PlayerMotionSystem extends ProfiledIteratingSystem {
+        PlayerMotionSystem(int priority) {
+            super(Family.all(PlayerComponent.class, PositionComponent.class, SpriteComponent.class).get(), priority, metrics);
+        }
+
+        @Override
+        protected void processEntity(Entity entity, float deltaTime) {
+            Player player = PLAYER.get(entity).player;
+            player.update(moveDirection, deltaTime, islandBounds);
+            PositionComponent position = POSITION.get(entity);
+            position.x = player.getX();
+            position.y = player.getY();
+            SpriteComponent sprite = SPRITE.get(entity);
+            sprite.region = player.getFrame();
+            sprite.flipX = !player.isFacingRight();
+        }
+    }
+
+    private class MonsterSteeringSystem extends ProfiledSystem {
+        MonsterSteeringSystem(int priority) {
+            super(priority, metrics);
+        }
+
+        @Override
+        protected void step(float deltaTime) {
+            updateMonsters(deltaTime);
+        }
+    }
+
+    private class PetSystem extends ProfiledIteratingSystem {
+        PetSystem(int priority) {
+            super(Family.all(PositionComponent.class, PetComponent.class, SpriteComponent.class).get(), priority, metrics);
+        }
+
+        @Override
+        protected void processEntity(Entity entity, float deltaTime) {
+            PetComponent pet = PET.get(entity);
+            SpriteComponent sprite = SPRITE.get(entity);
+            if (moveDirection.x > 0) {
+                pet.facingRight = true;
+            } else if (moveDirection.x < 0) {
+                pet.facingRight = false;
+            }
+            if (!moveDirection.isZero(0.1f)) {
+                sprite.stateTime += deltaTime;
+            }
+            sprite.flipX = !pet.facingRight;
+            followPlayer(POSITION.get(entity), pet, sprite);
+        }
+    }
+
+    private class PickupSystem extends ProfiledIteratingSystem {
+        PickupSystem(int priority) {
+            super(Family.all(PickupComponent.class, VelocityComponent.class).get(), priority, metrics);
+        }
+
+        @Override
+        protected void processEntity(Entity entity, float deltaTime) {
+            PickupComponent pickup = PICKUP.get(entity);
+            pickup.bobTime += deltaTime;
+            VELOCITY.get(entity).y = MathUtils.sin(pickup.bobTime * pickup.bobSpeed) * pickup.bobHeight;
+        }
+    }
+
+    private class MovementSystem extends ProfiledIteratingSystem {
+        MovementSystem(int priority) {
+            super(Family.all(PositionComponent.class, VelocityComponent.class).get(), priority, metrics);
+        }
+
+        @Override
+        protected void processEntity(Entity entity, float deltaTime) {
+            PositionComponent position = POSITION.get(entity);
+            VelocityComponent velocity = VELOCITY.get(entity);
+            position.x += velocity.x * deltaTime;
+            position.y += velocity.y * deltaTime;
+        }
+    }
+
+    private class FadeSystem extends ProfiledIteratingSystem {
+        FadeSystem(int priority) {
+            super(Family.all(FadeComponent.class).get(), priority, metrics);
+        }
+
+        @Override
+        protected void processEntity(Entity entity, float deltaTime) {
+            FadeComponent fade = FADE.get(entity);
+            fade.timer -= deltaTime;
+            if (fade.timer <= 0) {
+                getEngine().removeEntity(entity);
+            }
+        }
+    }
+
+    private class CollisionSystem extends ProfiledSystem {
+        CollisionSystem(int priority) {
+            super(priority, metrics);
+        }
+
+        @Override
+        protected void step(float deltaTime) {
+            resolveCollisions();
+        }
+    }
+
+    private class SpawnSystem extends ProfiledSystem {
+        SpawnSystem(int priority) {
+            super(priority, metrics);
+        }
+
+        @Override
+        protected void step(float deltaTime) {
+            if (gameOver || timeSinceStart <= 5f) return;
+            int before = monsters.size;
+            spawnDirector.update(deltaTime, monsters);
+            if (monsters.size != before) collisionGridDirty = true;
+        }
+    }
+
+    // Copies every positioned sprite into a snapshot for renderGameWorld. Not stepped by the
+    // engine: captureSnapshot drives it once per published snapshot instead of every tick.
+    private class SpriteCaptureSystem extends ProfiledIteratingSystem {
+        private ArenaSnapshot.SpriteLayer layer;
+
+        SpriteCaptureSystem(int priority) {
+            super(Family.all(PositionComponent.class, SpriteComponent.class).get(), priority, metrics);
+            setProcessing(false);
+        }
+
+        void capture(ArenaSnapshot.SpriteLayer layer) {
+            this.layer = layer;
+            layer.clear();
+            update(0);
+        }
+
+        @Override
+        protected void processEntity(Entity entity, float deltaTime) {
+            PositionComponent position = POSITION.get(entity);
+            SpriteComponent sprite = SPRITE.get(entity);
+            FadeComponent fade = FADE.get(entity);
+            layer.add(position.prevX, position.prevY, position.x, position.y, sprite.getFrame(),
+                sprite.width, sprite.height, sprite.flipX, fade != null ? fade.getAlpha() : 1f);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package game.info;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.concurrent.locks.LockSupport;
+
+public class ArenaSimulationThread implements Runnable {
+    public interface Step {
+        void advance(float delta);
+    }
+
+    private final String name;
+    private final Step step;
+    private volatile long tickNanos;
+    private volatile boolean running;
+    private Thread thread;
+
+    public ArenaSimulationThread(String name, Step step, int ticksPerSecond) {
+        this.name = name;
+        this.step = step;
+        setTickRate(ticksPerSecond);
+    }
+
+    public void setTickRate(int ticksPerSecond) {
+        this.tickNanos = 1_000_000_000L / Math.max(1, ticksPerSecond);
+    }
+
+    public void start() {
+        if (thread != null) return;
+        running = true;
+        thread = new Thread(this, name + "-simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+        Thread current = thread;
+        thread = null;
+        if (current == null || current == Thread.currentThread()) return;
+        LockSupport.unpark(current);
+        try {
+            current.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    @Override
+    public void run() {
+        long last = System.nanoTime();
+        try {
+            while (running) {
+                long now = System.nanoTime();
+                step.advance((now - last) / 1_000_000_000f);
+                last = now;
+                long wait = now + tickNanos - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(this, wait);
+            }
+        } catch (final Throwable t) {
+            running = false;
+            Gdx.app.error(name, "Simulation thread crashed", t);
+            Gdx.app.postRunnable(() -> {
+                throw new GdxRuntimeException("Simulation thread crashed", t);
+            });
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package game.info;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.Arrays;
+
+// Everything renderGameWorld and renderUI need from one simulation tick.
+// Written only by the simulation and never touched again once published.
+public class ArenaSnapshot {
+    public static class Layer {
+        public float[] prevX = new float[64];
+        public float[] prevY = new float[64];
+        public float[] x = new float[64];
+        public float[] y = new float[64];
+        public int[] frame = new int[64];
+        public float[] alpha = new float[64];
+        public float[] scale = new float[64];
+        public int size;
+
+        public void clear() {
+            size = 0;
+        }
+
+        public void add(float prevX, float prevY, float x, float y, int frame, float alpha) {
+            add(prevX, prevY, x, y, frame, alpha, 1f);
+        }
+
+        public void add(float prevX, float prevY, float x, float y, int frame, float alpha, float scale) {
+            if (size == this.x.length) resize(size * 2);
+            int i = size++;
+            this.prevX[i] = prevX;
+            this.prevY[i] = prevY;
+            this.x[i] = x;
+            this.y[i] = y;
+            this.frame[i] = frame;
+            this.alpha[i] = alpha;
+            this.scale[i] = scale;
+        }
+
+        public float getX(int i, float interpolation) {
+            return prevX[i] + (x[i] - prevX[i]) * interpolation;
+        }
+
+        public float getY(int i, float interpolation) {
+            return prevY[i] + (y[i] - prevY[i]) * interpolation;
+        }
+
+        protected void resize(int capacity) {
+            prevX = Arrays.copyOf(prevX, capacity);
+            prevY = Arrays.copyOf(prevY, capacity);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            frame = Arrays.copyOf(frame, capacity);
+            alpha = Arrays.copyOf(alpha, capacity);
+            scale = Arrays.copyOf(scale, capacity);
+        }
+    }
+
+    // Entity sprites that each carry their own region, size and facing.
+    public static class SpriteLayer extends Layer {
+        public TextureRegion[] region = new TextureRegion[64];
+        public float[] width = new float[64];
+        public float[] height = new float[64];
+        public boolean[] flipX = new boolean[64];
+
+        public void add(float prevX, float prevY, float x, float y, TextureRegion region,
+                        float width, float height, boolean flipX, float alpha) {
+            int i = size;
+            add(prevX, prevY, x, y, 0, alpha);
+            this.region[i] = region;
+            this.width[i] = width;
+            this.height[i] = height;
+            this.flipX[i] = flipX;
+        }
+
+        @Override
+        protected void resize(int capacity) {
+            super.resize(capacity);
+            region = Arrays.copyOf(region, capacity);
+            width = Arrays.copyOf(width, capacity);
+            height = Arrays.copyOf(height, capacity);
+            flipX = Arrays.copyOf(flipX, capacity);
+        }
+    }
+
+    public final Layer monsters = new Layer();
+    public final Layer bombs = new Layer();
+    public final Layer knives = new Layer();
+    public final SpriteLayer sprites = new SpriteLayer();
+
+    public float playerPrevX, playerPrevY;
+    public float playerX, playerY;
+
+    public int playerHealth;
+    public float bombCooldown;
+    public long tick;
+    public long publishedAt;
+
+    public float getPlayerX(float interpolation) {
+        return playerPrevX + (playerX - playerPrevX) * interpolation;
+    }
+
+    public float getPlayerY(float interpolation) {
+        return playerPrevY + (playerY - playerPrevY) * interpolation;
+    }
+}
@@ -0,0 +1,30 @@
+package game.info;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Front/back snapshot pair with a spare slot in between, so neither the writer nor
+// the reader ever waits for the other or sees a half-written snapshot.
+public class ArenaSnapshotBuffer {
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4;
+
+    private final ArenaSnapshot[] slots = {new ArenaSnapshot(), new ArenaSnapshot(), new ArenaSnapshot()};
+    private final AtomicInteger shared = new AtomicInteger(1);
+    private int back = 0;
+    private int front = 2;
+
+    public ArenaSnapshot getBackBuffer() {
+        return slots[back];
+    }
+
+    public void publish() {
+        back = shared.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    public ArenaSnapshot acquire() {
+        if ((shared.get() & FRESH) != 0) {
+            front = shared.getAndSet(front) & INDEX_MASK;
+        }
+        return slots[front];
+    }
+}
@@ -6,6 +6,7 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
@@ -24,12 +25,12 @@ public class AwardsScreen implements Screen {
     private SpriteBatch batch;
     private Texture background;
 
-    private Texture backBtnNormal, backBtnPressed;
-    private Texture yesBtnNormal, yesBtnPressed;
-    private Texture awardTexture;
-    private Texture diamondTexture;
-    private Texture spellTexture;
-    private Texture monsterTexture;
+    private TextureRegion backBtnNormal, backBtnPressed;
+    private TextureRegion yesBtnNormal, yesBtnPressed;
+    private TextureRegion awardRegion;
+    private TextureRegion diamondRegion;
+    private TextureRegion spellRegion;
+    private TextureRegion monsterRegion;
 
     private ImageButton backButton;
     private ImageButton yesButton;
@@ -59,23 +60,23 @@ public class AwardsScreen implements Screen {
 
     public AwardsScreen(MyGames game) {
         this.game = game;
-        batch = new SpriteBatch();
+        batch = game.getBatch();
     }
 
     @Override
     public void show() {
-        stage = new Stage(new ScreenViewport());
+        stage = new Stage(new ScreenViewport(), batch);
         Gdx.input.setInputProcessor(stage);
 
         background = new Texture(Gdx.files.internal("space1.png"));
-        backBtnNormal = new Texture(Gdx.files.internal("back01.png"));
-        backBtnPressed = new Texture(Gdx.files.internal("back02.png"));
-        yesBtnNormal = new Texture(Gdx.files.internal("yes01.png"));
-        yesBtnPressed = new Texture(Gdx.files.internal("yes02.png"));
-        awardTexture = new Texture(Gdx.files.internal("award_icon.png"));
-        diamondTexture = new Texture(Gdx.files.internal("stone.png"));
-        spellTexture = new Texture(Gdx.files.internal("spell.png"));
-        monsterTexture = new Texture(Gdx.files.internal("monster.png"));
+        backBtnNormal = game.getAtlases().shop("back01");
+        backBtnPressed = game.getAtlases().shop("back02");
+        yesBtnNormal = game.getAtlases().shop("yes01");
+        yesBtnPressed = game.getAtlases().shop("yes02");
+        awardRegion = game.getAtlases().shop("award_icon");
+        diamondRegion = game.getAtlases().shop("stone");
+        spellRegion = game.getAtlases().shop("spell");
+        monsterRegion = game.getAtlases().shop("monster");
 
         font = new BitmapFont();
         font.getData().setScale(3f);
@@ -128,14 +129,14 @@ public class AwardsScreen implements Screen {
         backStyle.down = new TextureRegionDrawable(backBtnPressed);
         backButton = new ImageButton(backStyle);
         backButton.getImage().setScale(CONTROL_BUTTON_SCALE);
-        backButton.setSize(backBtnNormal.getWidth() * CONTROL_BUTTON_SCALE, backBtnNormal.getHeight() * CONTROL_BUTTON_SCALE);
+        backButton.setSize(backBtnNormal.getRegionWidth() * CONTROL_BUTTON_SCALE, backBtnNormal.getRegionHeight() * CONTROL_BUTTON_SCALE);
 
         ImageButton.ImageButtonStyle yesStyle = new ImageButton.ImageButtonStyle();
         yesStyle.up = new TextureRegionDrawable(yesBtnNormal);
         yesStyle.down = new TextureRegionDrawable(yesBtnPressed);
         yesButton = new ImageButton(yesStyle);
         yesButton.getImage().setScale(CONTROL_BUTTON_SCALE);
-        yesButton.setSize(yesBtnNormal.getWidth() * CONTROL_BUTTON_SCALE, yesBtnNormal.getHeight() * CONTROL_BUTTON_SCALE);
+        yesButton.setSize(yesBtnNormal.getRegionWidth() * CONTROL_BUTTON_SCALE, yesBtnNormal.getRegionHeight() * CONTROL_BUTTON_SCALE);
 
 
         awardLabels = new Label[3];
@@ -165,12 +166,12 @@ public class AwardsScreen implements Screen {
         resourcesTable.setFillParent(true);
         resourcesTable.top().right();
 
-        ImageButton spellIcon = new ImageButton(new TextureRegionDrawable(spellTexture));
+        ImageButton spellIcon = new ImageButton(new TextureRegionDrawable(spellRegion));
         spellIcon.setSize(RESOURCE_SIZE, RESOURCE_SIZE);
         Label spellsLabel = new Label(String.valueOf(game.spellsCollected),
             new Label.LabelStyle(font, Color.WHITE));
 
-        ImageButton diamondIcon = new ImageButton(new TextureRegionDrawable(diamondTexture));
+        ImageButton diamondIcon = new ImageButton(new TextureRegionDrawable(diamondRegion));
         diamondIcon.setSize(RESOURCE_SIZE, RESOURCE_SIZE);
         Label diamondsLabel = new Label(String.valueOf(game.diamonds),
             new Label.LabelStyle(font, Color.WHITE));
@@ -200,8 +201,8 @@ public class AwardsScreen implements Screen {
 
     private ImageButton createAwardButton(final int awardIndex) {
         ImageButton.ImageButtonStyle style = new ImageButton.ImageButtonStyle();
-        style.up = new TextureRegionDrawable(awardTexture);
-        style.down = new TextureRegionDrawable(awardTexture);
+        style.up = new TextureRegionDrawable(awardRegion);
+        style.down = new TextureRegionDrawable(awardRegion);
 
         ImageButton button = new ImageButton(style);
 
@@ -302,16 +303,7 @@ public class AwardsScreen implements Screen {
     @Override
     public void dispose() {
         stage.dispose();
-        batch.dispose();
         background.dispose();
-        backBtnNormal.dispose();
-        backBtnPressed.dispose();
-        yesBtnNormal.dispose();
-        yesBtnPressed.dispose();
-        awardTexture.dispose();
-        diamondTexture.dispose();
-        spellTexture.dispose();
-        monsterTexture.dispose();
         font.dispose();
     }
 
@@ -0,0 +1,373 @@
+package game.info;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.ContactListener;
+import com.badlogic.gdx.physics.box2d.Filter;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.Manifold;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.QueryCallback;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+// Broad phase backed by Box2D's dynamic AABB tree. Every entry slot owns one body with a sensor
+// fixture; slots are re-posed each rebuild instead of being destroyed, and only when their
+// rectangle changed, so the tree only reinserts proxies that left their fattened bounds.
+// Overlap and nearest queries go straight to the tree. Contacts come from the world's contact
+// listener, which keeps each slot's touching slots up to date as the world is stepped; only
+// layer pairs switched on with enableContacts report them. Everything is narrowed to the exact
+// rectangles.
+public class Box2DBroadPhase implements BroadPhase {
+    private static final float PARKED = -1_000_000f;
+    private static final float PARKED_SPACING = 100f;
+    private static final float STEP_TIME = 1f / 60f;
+    private static final float INITIAL_NEAREST_REACH = 4f;
+
+    private final World world;
+    private final float metersPerUnit;
+    private final BodyDef bodyDef = new BodyDef();
+    private final FixtureDef fixtureDef = new FixtureDef();
+    private final PolygonShape box;
+    private final Filter filter = new Filter();
+    private final Array<Body> bodies = new Array<>();
+    private final Array<IntArray> touching = new Array<>();
+    private final int[] contactMasks = new int[16];
+    private float[] fixtureWidth = new float[128];
+    private float[] fixtureHeight = new float[128];
+    private float[] posedX = new float[128];
+    private float[] posedY = new float[128];
+    private int[] filterLayers = new int[128];
+    private int posedBodies;
+    private boolean contactsStale;
+    private boolean disposed;
+
+    private float[] minX = new float[128];
+    private float[] minY = new float[128];
+    private float[] maxX = new float[128];
+    private float[] maxY = new float[128];
+    private int[] ids = new int[128];
+    private int[] layers = new int[128];
+    private int entryCount;
+    private float extentMinX, extentMinY, extentMaxX, extentMaxY;
+
+    private int[] nearestEntries = new int[8];
+    private float[] nearestDistances = new float[8];
+    private final OverlapCallback overlapCallback = new OverlapCallback();
+    private final NearestCallback nearestCallback = new NearestCallback();
+
+    // unitsPerMeter keeps bodies near one meter across, the scale the tree's margins are tuned for.
+    public Box2DBroadPhase(float unitsPerMeter) {
+        Box2D.init();
+        world = new World(Vector2.Zero, false);
+        world.setContactListener(new TouchingListener());
+        box = new PolygonShape();
+        metersPerUnit = 1f / unitsPerMeter;
+        // Box2D never pairs two static or kinematic bodies, so the slots are dynamic bodies that
+        // are simply never given a velocity.
+        bodyDef.type = BodyDef.BodyType.DynamicBody;
+        bodyDef.allowSleep = false;
+        fixtureDef.isSensor = true;
+        fixtureDef.shape = box;
+        clear();
+    }
+
+    // Lets entries on the two layers report each other from queryContacts. Call before inserting.
+    public void enableContacts(int layerA, int layerB) {
+        contactMasks[layerA] |= 1 << layerB;
+        contactMasks[layerB] |= 1 << layerA;
+        Arrays.fill(filterLayers, -1);
+    }
+
+    @Override
+    public void clear() {
+        entryCount = 0;
+        contactsStale = true;
+        extentMinX = extentMinY = Float.MAX_VALUE;
+        extentMaxX = extentMaxY = -Float.MAX_VALUE;
+    }
+
+    @Override
+    public int insert(int layer, int id, float x, float y, float width, float height) {
+        if (entryCount == ids.length) growEntries();
+        int entry = entryCount++;
+        minX[entry] = x;
+        minY[entry] = y;
+        maxX[entry] = x + width;
+        maxY[entry] = y + height;
+        ids[entry] = id;
+        layers[entry] = layer;
+        extentMinX = Math.min(extentMinX, x);
+        extentMinY = Math.min(extentMinY, y);
+        extentMaxX = Math.max(extentMaxX, x + width);
+        extentMaxY = Math.max(extentMaxY, y + height);
+
+        Body body = entry < bodies.size ? bodies.get(entry) : createBody(entry);
+        boolean resized = fixtureWidth[entry] != width || fixtureHeight[entry] != height;
+        if (resized) {
+            setFixtureSize(body, entry, width, height);
+        }
+        if (filterLayers[entry] != layer) {
+            setFilterLayer(body, entry, layer);
+        }
+        if (resized || posedX[entry] != x || posedY[entry] != y) {
+            body.setTransform((x + width / 2f) * metersPerUnit, (y + height / 2f) * metersPerUnit, 0);
+            posedX[entry] = x;
+            posedY[entry] = y;
+        }
+        return entry;
+    }
+
+    @Override
+    public int queryOverlaps(float x, float y, float width, float height, int layerMask, IntArray out) {
+        out.clear();
+        parkUnusedBodies();
+        overlapCallback.set(x, y, x + width, y + height, layerMask, out);
+        world.QueryAABB(overlapCallback, x * metersPerUnit, y * metersPerUnit,
+            (x + width) * metersPerUnit, (y + height) * metersPerUnit);
+        return out.size;
+    }
+
+    @Override
+    public int queryContacts(int entry, int layerMask, IntArray out) {
+        out.clear();
+        parkUnusedBodies();
+        if (contactsStale) {
+            // Box2D pairs up moved proxies at the end of a step and only decides whether a pair
+            // touches at the start of the next, so a fresh overlap needs two steps to report.
+            world.step(STEP_TIME, 1, 1);
+            world.step(STEP_TIME, 1, 1);
+            contactsStale = false;
+        }
+
+        IntArray partners = touching.get(entry);
+        for (int i = 0; i < partners.size; i++) {
+            int other = partners.get(i);
+            if (accepts(other, layerMask) && minX[other] < maxX[entry] && maxX[other] > minX[entry]
+                && minY[other] < maxY[entry] && maxY[other] > minY[entry]) {
+                out.add(other);
+            }
+        }
+        return out.size;
+    }
+
+    // Same contract as SpatialHash.queryNearest: up to k entries by center distance, nearest
+    // first. The search box doubles until the k-th candidate is provably the k-th nearest.
+    @Override
+    public int queryNearest(float x, float y, int k, int layerMask, IntArray out) {
+        out.clear();
+        if (k <= 0 || entryCount == 0) return 0;
+        parkUnusedBodies();
+        if (nearestEntries.length < k) {
+            nearestEntries = new int[k];
+            nearestDistances = new float[k];
+        }
+
+        float maxReach = Math.max(
+            Math.max(x - extentMinX, extentMaxX - x),
+            Math.max(y - extentMinY, extentMaxY - y));
+        float reach = INITIAL_NEAREST_REACH / metersPerUnit;
+        while (true) {
+            nearestCallback.set(x, y, k, layerMask);
+            world.QueryAABB(nearestCallback, (x - reach) * metersPerUnit, (y - reach) * metersPerUnit,
+                (x + reach) * metersPerUnit, (y + reach) * metersPerUnit);
+            int found = nearestCallback.found;
+            if (reach >= maxReach || found == k && nearestDistances[k - 1] <= reach * reach) break;
+            reach *= 2;
+        }
+
+        for (int i = 0; i < nearestCallback.found; i++) {
+            out.add(nearestEntries[i]);
+        }
+        return out.size;
+    }
+
+    @Override
+    public int getId(int entry) {
+        return ids[entry];
+    }
+
+    @Override
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    public int getBodyCount() {
+        return bodies.size;
+    }
+
+    @Override
+    public void dispose() {
+        // The native world and shape crash when freed twice.
+        if (disposed) return;
+        disposed = true;
+        box.dispose();
+        world.dispose();
+        bodies.clear();
+    }
+
+    // The slot number is boxed once here and shared by every fixture the body is given later.
+    private Body createBody(int entry) {
+        bodyDef.position.set(parkedX(entry), PARKED * metersPerUnit);
+        Body body = world.createBody(bodyDef);
+        body.setUserData(entry);
+        bodies.add(body);
+        touching.add(new IntArray());
+        fixtureWidth[entry] = fixtureHeight[entry] = -1;
+        posedX[entry] = posedY[entry] = Float.NaN;
+        filterLayers[entry] = -1;
+        return body;
+    }
+
+    private void setFixtureSize(Body body, int entry, float width, float height) {
+        Array<Fixture> fixtures = body.getFixtureList();
+        if (fixtures.size > 0) {
+            body.destroyFixture(fixtures.first());
+        }
+        box.setAsBox(Math.max(width, 0.01f) / 2f * metersPerUnit, Math.max(height, 0.01f) / 2f * metersPerUnit);
+        body.createFixture(fixtureDef).setUserData(body.getUserData());
+        fixtureWidth[entry] = width;
+        fixtureHeight[entry] = height;
+        filterLayers[entry] = -1;
+    }
+
+    private void setFilterLayer(Body body, int entry, int layer) {
+        filter.categoryBits = (short) (1 << layer);
+        filter.maskBits = (short) contactMasks[layer];
+        body.getFixtureList().first().setFilterData(filter);
+        filterLayers[entry] = layer;
+    }
+
+    // Bodies left over from a larger previous rebuild are moved out of the way rather than
+    // destroyed, so the next spike in entity count does not allocate native bodies again. Each
+    // gets its own spot so parked bodies never touch one another.
+    private void parkUnusedBodies() {
+        for (int i = entryCount; i < posedBodies; i++) {
+            bodies.get(i).setTransform(parkedX(i), PARKED * metersPerUnit, 0);
+            posedX[i] = posedY[i] = Float.NaN;
+        }
+        posedBodies = entryCount;
+    }
+
+    private float parkedX(int slot) {
+        return PARKED * metersPerUnit - slot * PARKED_SPACING;
+    }
+
+    private void growEntries() {
+        int capacity = ids.length * 2;
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        layers = Arrays.copyOf(layers, capacity);
+        fixtureWidth = Arrays.copyOf(fixtureWidth, capacity);
+        fixtureHeight = Arrays.copyOf(fixtureHeight, capacity);
+        posedX = Arrays.copyOf(posedX, capacity);
+        posedY = Arrays.copyOf(posedY, capacity);
+        filterLayers = Arrays.copyOf(filterLayers, capacity);
+    }
+
+    private boolean accepts(int entry, int layerMask) {
+        return entry < entryCount && ((1 << layers[entry]) & layerMask) != 0;
+    }
+
+    private static int slotOf(Fixture fixture) {
+        return (Integer) fixture.getUserData();
+    }
+
+    private class TouchingListener implements ContactListener {
+        @Override
+        public void beginContact(Contact contact) {
+            int a = slotOf(contact.getFixtureA());
+            int b = slotOf(contact.getFixtureB());
+            touching.get(a).add(b);
+            touching.get(b).add(a);
+        }
+
+        @Override
+        public void endContact(Contact contact) {
+            int a = slotOf(contact.getFixtureA());
+            int b = slotOf(contact.getFixtureB());
+            touching.get(a).removeValue(b);
+            touching.get(b).removeValue(a);
+        }
+
+        @Override
+        public void preSolve(Contact contact, Manifold oldManifold) {
+        }
+
+        @Override
+        public void postSolve(Contact contact, ContactImpulse impulse) {
+        }
+    }
+
+    private class OverlapCallback implements QueryCallback {
+        private float left, bottom, right, top;
+        private int layerMask;
+        private IntArray out;
+
+        void set(float left, float bottom, float right, float top, int layerMask, IntArray out) {
+            this.left = left;
+            this.bottom = bottom;
+            this.right = right;
+            this.top = top;
+            this.layerMask = layerMask;
+            this.out = out;
+        }
+
+        @Override
+        public boolean reportFixture(Fixture fixture) {
+            int entry = slotOf(fixture);
+            if (accepts(entry, layerMask)
+                && minX[entry] < right && maxX[entry] > left && minY[entry] < top && maxY[entry] > bottom) {
+                out.add(entry);
+            }
+            return true;
+        }
+    }
+
+    private class NearestCallback implements QueryCallback {
+        private float x, y;
+        private int k;
+        private int layerMask;
+        private int found;
+
+        void set(float x, float y, int k, int layerMask) {
+            this.x = x;
+            this.y = y;
+            this.k = k;
+            this.layerMask = layerMask;
+            found = 0;
+        }
+
+        @Override
+        public boolean reportFixture(Fixture fixture) {
+            int entry = slotOf(fixture);
+            if (!accepts(entry, layerMask)) return true;
+
+            float dx = (minX[entry] + maxX[entry]) / 2f - x;
+            float dy = (minY[entry] + maxY[entry]) / 2f - y;
+            float distance = dx * dx + dy * dy;
+            if (found == k && distance >= nearestDistances[k - 1]) return true;
+
+            int i = found < k ? found++ : k - 1;
+            while (i > 0 && nearestDistances[i - 1] > distance) {
+                nearestEntries[i] = nearestEntries[i - 1];
+                nearestDistances[i] = nearestDistances[i - 1];
+                i--;
+            }
+            nearestEntries[i] = entry;
+            nearestDistances[i] = distance;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package game.info;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+
+// Rebuilt from scratch every tick: clear, insert every collider, then query. Queries write
+// entry indices to out; getId maps an entry back to the caller's own index.
+public interface BroadPhase extends Disposable {
+    void clear();
+
+    int insert(int layer, int id, float x, float y, float width, float height);
+
+    int queryOverlaps(float x, float y, float width, float height, int layerMask, IntArray out);
+
+    // Entries on layerMask whose rectangles overlap the given entry's own, not counting itself.
+    int queryContacts(int entry, int layerMask, IntArray out);
+
+    int queryNearest(float x, float y, int k, int layerMask, IntArray out);
+
+    int getId(int entry);
+
+    int getEntryCount();
+}
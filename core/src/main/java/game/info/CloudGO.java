@@ -5,7 +5,7 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -23,12 +23,11 @@ public class CloudGO implements Screen {
     private Stage stage;
 
     private Texture gameOverTexture;
-    private Texture restartButtonTexture;
-    private Texture restartButtonPressedTexture;
-    private Texture homeButtonTexture;
-    private Texture homeButtonPressedTexture;
-    private Texture diamondTexture;
-    private Texture spellTexture;
+    private TextureRegion restartButtonRegion;
+    private TextureRegion restartButtonPressedRegion;
+    private TextureRegion homeButtonRegion;
+    private TextureRegion homeButtonPressedRegion;
+    private ResourceCounter resourceCounter;
     private BitmapFont font;
     private Texture backgroundTexture;
 
@@ -36,7 +35,7 @@ public class CloudGO implements Screen {
         this.game = game;
         camera = new OrthographicCamera();
         viewport = new ScreenViewport(camera);
-        batch = new SpriteBatch();
+        batch = game.getBatch();
         stage = new Stage(viewport, batch);
         Gdx.input.setInputProcessor(stage);
 
@@ -46,14 +45,13 @@ public class CloudGO implements Screen {
 
     private void loadAssets() {
         gameOverTexture = new Texture(Gdx.files.internal("gameover.png"));
-        restartButtonTexture = new Texture(Gdx.files.internal("restart01.png"));
-        restartButtonPressedTexture = new Texture(Gdx.files.internal("restart02.png"));
-        homeButtonTexture = new Texture(Gdx.files.internal("home01.png"));
-        homeButtonPressedTexture = new Texture(Gdx.files.internal("home02.png"));
-        diamondTexture = new Texture(Gdx.files.internal("stone.png"));
-        spellTexture = new Texture(Gdx.files.internal("spell.png"));
+        restartButtonRegion = game.getAtlases().dialogs("restart01");
+        restartButtonPressedRegion = game.getAtlases().dialogs("restart02");
+        homeButtonRegion = game.getAtlases().dialogs("home01");
+        homeButtonPressedRegion = game.getAtlases().dialogs("home02");
         font = new BitmapFont();
         font.getData().setScale(3f);
+        resourceCounter = new ResourceCounter(font, game.getAtlases().dialogs("stone"), game.getAtlases().dialogs("spell"));
         backgroundTexture = new Texture(Gdx.files.internal("space1.png"));
 
     }
@@ -64,8 +62,8 @@ public class CloudGO implements Screen {
         float gameOverHeight = gameOverTexture.getHeight() * gameOverScale;
 
         float buttonScale = 0.8f;
-        float buttonWidth = restartButtonTexture.getWidth() * buttonScale;
-        float buttonHeight = restartButtonTexture.getHeight() * buttonScale;
+        float buttonWidth = restartButtonRegion.getRegionWidth() * buttonScale;
+        float buttonHeight = restartButtonRegion.getRegionHeight() * buttonScale;
 
         float centerX = Gdx.graphics.getWidth() / 2f;
 
@@ -74,8 +72,8 @@ public class CloudGO implements Screen {
         float gameOverY = buttonsY + buttonHeight + 50;
 
         ImageButton.ImageButtonStyle restartStyle = new ImageButton.ImageButtonStyle();
-        restartStyle.up = new TextureRegionDrawable(restartButtonTexture);
-        restartStyle.down = new TextureRegionDrawable(restartButtonPressedTexture);
+        restartStyle.up = new TextureRegionDrawable(restartButtonRegion);
+        restartStyle.down = new TextureRegionDrawable(restartButtonPressedRegion);
 
         ImageButton restartButton = new ImageButton(restartStyle);
         restartButton.setSize(buttonWidth, buttonHeight);
@@ -90,8 +88,8 @@ public class CloudGO implements Screen {
         });
 
         ImageButton.ImageButtonStyle homeStyle = new ImageButton.ImageButtonStyle();
-        homeStyle.up = new TextureRegionDrawable(homeButtonTexture);
-        homeStyle.down = new TextureRegionDrawable(homeButtonPressedTexture);
+        homeStyle.up = new TextureRegionDrawable(homeButtonRegion);
+        homeStyle.down = new TextureRegionDrawable(homeButtonPressedRegion);
 
         ImageButton homeButton = new ImageButton(homeStyle);
         homeButton.setSize(buttonWidth, buttonHeight);
@@ -124,34 +122,12 @@ public class CloudGO implements Screen {
         float gameOverWidth = gameOverTexture.getWidth() * gameOverScale;
         float gameOverHeight = gameOverTexture.getHeight() * gameOverScale;
         float gameOverX = Gdx.graphics.getWidth() / 2f - gameOverWidth / 2;
-        float gameOverY = Gdx.graphics.getHeight() * 0.4f + restartButtonTexture.getHeight() * 0.8f - 80;
+        float gameOverY = Gdx.graphics.getHeight() * 0.4f + restartButtonRegion.getRegionHeight() * 0.8f - 80;
         batch.draw(gameOverTexture, gameOverX, gameOverY, gameOverWidth, gameOverHeight);
 
-        if (font != null && diamondTexture != null && spellTexture != null) {
-            float RESOURCE_SIZE = 100f;
-            float PADDING_RIGHT = 15f;
-            float PADDING_TOP = 15f;
-            float TEXT_ICON_SPACING = 5f;
-
-            String spellsText = String.valueOf(game.spellsCollected);
-            String diamondsText = String.valueOf(MyGames.diamonds);
-
-            GlyphLayout spellsLayout = new GlyphLayout(font, spellsText);
-            GlyphLayout diamondsLayout = new GlyphLayout(font, diamondsText);
-
-            float currentX = Gdx.graphics.getWidth() - PADDING_RIGHT;
-            float yPos = Gdx.graphics.getHeight() - PADDING_TOP - RESOURCE_SIZE;
-
-            float diamondsIconX = currentX - RESOURCE_SIZE;
-            float diamondsTextX = diamondsIconX - TEXT_ICON_SPACING - diamondsLayout.width;
-            batch.draw(diamondTexture, diamondsIconX, yPos, RESOURCE_SIZE, RESOURCE_SIZE);
-            font.draw(batch, diamondsText, diamondsTextX, yPos + RESOURCE_SIZE/2 + diamondsLayout.height/2);
-
-            currentX = diamondsTextX - PADDING_RIGHT;
-            float spellsIconX = currentX - RESOURCE_SIZE;
-            float spellsTextX = spellsIconX - TEXT_ICON_SPACING - spellsLayout.width;
-            batch.draw(spellTexture, spellsIconX, yPos, RESOURCE_SIZE, RESOURCE_SIZE);
-            font.draw(batch, spellsText, spellsTextX, yPos + RESOURCE_SIZE/2 + spellsLayout.height/2);
+        if (resourceCounter != null) {
+            resourceCounter.draw(batch, MyGames.diamonds, game.spellsCollected,
+                Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         }
 
 
@@ -179,30 +155,6 @@ public class CloudGO implements Screen {
             gameOverTexture.dispose();
             gameOverTexture = null;
         }
-        if (restartButtonTexture != null) {
-            restartButtonTexture.dispose();
-            restartButtonTexture = null;
-        }
-        if (restartButtonPressedTexture != null) {
-            restartButtonPressedTexture.dispose();
-            restartButtonPressedTexture = null;
-        }
-        if (homeButtonTexture != null) {
-            homeButtonTexture.dispose();
-            homeButtonTexture = null;
-        }
-        if (homeButtonPressedTexture != null) {
-            homeButtonPressedTexture.dispose();
-            homeButtonPressedTexture = null;
-        }
-        if (diamondTexture != null) {
-            diamondTexture.dispose();
-            diamondTexture = null;
-        }
-        if (spellTexture != null) {
-            spellTexture.dispose();
-            spellTexture = null;
-        }
         if (font != null) {
             font.dispose();
             font = null;
@@ -214,12 +166,11 @@ public class CloudGO implements Screen {
 
         batch = null;
         gameOverTexture = null;
-        restartButtonTexture = null;
-        restartButtonPressedTexture = null;
-        homeButtonTexture = null;
-        homeButtonPressedTexture = null;
-        diamondTexture = null;
-        spellTexture = null;
+        restartButtonRegion = null;
+        restartButtonPressedRegion = null;
+        homeButtonRegion = null;
+        homeButtonPressedRegion = null;
+        resourceCounter = null;
         font = null;
         stage = null;
 
@@ -0,0 +1,15 @@
+package game.info;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+public class ColliderComponent implements Component, Pool.Poolable {
+    public float width, height;
+    public int layer;
+
+    @Override
+    public void reset() {
+        width = height = 0;
+        layer = 0;
+    }
+}
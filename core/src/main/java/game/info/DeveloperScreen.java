@@ -0,0 +1,206 @@
+package game.info;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
+import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+// Switches for the arena's engine options, reached from the settings screen in debug runs.
+// Tapping a line toggles it; the choice is saved and applies from the next arena run. The
+// recording lines (the last plays back the newest recorded run) are debug-only as well.
+public class DeveloperScreen implements Screen {
+    private static final float ROW_HEIGHT = 110f;
+
+    private final MyGames game;
+    private SpriteBatch batch;
+    private OrthographicCamera camera;
+    private Viewport viewport;
+    private Stage stage;
+    private Texture backgroundTexture;
+    private BitmapFont font;
+    private Label threadedLabel;
+    private Label box2dLabel;
+    private Label recordLabel;
+    private Label replayLabel;
+
+    private ImageButton backButton;
+    private TextureRegion backBtnNormal;
+    private TextureRegion backBtnPressed;
+
+    public DeveloperScreen(final MyGames game) {
+        this.game = game;
+        camera = new OrthographicCamera();
+        viewport = new ScreenViewport(camera);
+        batch = game.getBatch();
+        stage = new Stage(viewport, batch);
+        Gdx.input.setInputProcessor(stage);
+
+        backgroundTexture = new Texture(Gdx.files.internal("space1.png"));
+        font = new BitmapFont();
+        font.getData().setScale(4f);
+        font.setColor(Color.WHITE);
+
+        backBtnNormal = game.getAtlases().menus("back01");
+        backBtnPressed = game.getAtlases().menus("back02");
+        createUI();
+    }
+
+    private void createUI() {
+        float screenWidth = Gdx.graphics.getWidth();
+        float topY = Gdx.graphics.getHeight() * 0.8f;
+
+        threadedLabel = createRow(screenWidth, topY);
+        threadedLabel.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                game.playClickSound();
+                game.setThreadedSimulation(!game.isThreadedSimulation());
+                updateLabels();
+            }
+        });
+
+        box2dLabel = createRow(screenWidth, topY - ROW_HEIGHT);
+        box2dLabel.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                game.playClickSound();
+                game.setBox2dBroadPhase(!game.isBox2dBroadPhase());
+                updateLabels();
+            }
+        });
+
+        if (game.isDeveloperMode()) {
+            createRecordingRows(screenWidth, topY - ROW_HEIGHT * 2);
+        }
+
+        ImageButton.ImageButtonStyle backStyle = new ImageButton.ImageButtonStyle();
+        backStyle.up = new TextureRegionDrawable(backBtnNormal);
+        backStyle.down = new TextureRegionDrawable(backBtnPressed);
+        backButton = new ImageButton(backStyle);
+        backButton.setPosition(screenWidth / 2f - backButton.getWidth() / 2, Gdx.graphics.getHeight() * 0.1f);
+        backButton.addListener(new ChangeListener() {
+            @Override
+            public void changed(ChangeEvent event, Actor actor) {
+                game.playClickSound();
+                game.setScreen(new SettingsScreen(game));
+            }
+        });
+        stage.addActor(backButton);
+
+        updateLabels();
+    }
+
+    private void createRecordingRows(float screenWidth, float topY) {
+        recordLabel = createRow(screenWidth, topY);
+        recordLabel.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                game.playClickSound();
+                game.setRecordingArenaRuns(!game.isRecordingArenaRuns());
+                updateLabels();
+            }
+        });
+
+        replayLabel = createRow(screenWidth, topY - ROW_HEIGHT);
+        replayLabel.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                game.playClickSound();
+                replayLastRun();
+            }
+        });
+    }
+
+    private Label createRow(float screenWidth, float y) {
+        Label.LabelStyle labelStyle = new Label.LabelStyle();
+        labelStyle.font = font;
+        Label label = new Label("", labelStyle);
+        label.setAlignment(Align.center);
+        label.setSize(screenWidth, ROW_HEIGHT);
+        label.setPosition(0, y - ROW_HEIGHT);
+        stage.addActor(label);
+        return label;
+    }
+
+    private void updateLabels() {
+        threadedLabel.setText("SIMULATION THREAD: " + onOff(game.isThreadedSimulation()));
+        box2dLabel.setText("BOX2D BROAD PHASE: " + onOff(game.isBox2dBroadPhase()));
+        if (recordLabel == null) return;
+        recordLabel.setText("RECORD RUNS: " + onOff(game.isRecordingArenaRuns()));
+        replayLabel.setText(findLastRecording() != null ? "REPLAY LAST RUN" : "NO RECORDED RUNS");
+    }
+
+    private void replayLastRun() {
+        FileHandle file = findLastRecording();
+        if (file == null) return;
+        try {
+            game.setScreen(ArenaScreen.createReplay(game, file));
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("DeveloperScreen", "Could not replay " + file, e);
+            replayLabel.setText("REPLAY FAILED");
+        }
+    }
+
+    // Recordings are saved by ArenaScreen as replays/<level>-<seed>.ssr in local storage.
+    private static FileHandle findLastRecording() {
+        FileHandle last = null;
+        for (FileHandle file : Gdx.files.local("replays").list(".ssr")) {
+            if (last == null || file.lastModified() > last.lastModified()) last = file;
+        }
+        return last;
+    }
+
+    private static String onOff(boolean value) {
+        return value ? "ON" : "OFF";
+    }
+
+    @Override
+    public void render(float delta) {
+        Gdx.gl.glClearColor(0.1f, 0.1f, 0.1f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        batch.begin();
+        batch.draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.end();
+
+        stage.act(delta);
+        stage.draw();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        viewport.update(width, height, true);
+        camera.position.set(width / 2f, height / 2f, 0);
+        camera.update();
+    }
+
+    @Override
+    public void dispose() {
+        stage.dispose();
+        backgroundTexture.dispose();
+        font.dispose();
+    }
+
+    @Override public void show() {}
+    @Override public void pause() {}
+    @Override public void resume() {}
+    @Override public void hide() {}
+}
@@ -1,21 +1,20 @@
 package game.info;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
 
 public class Door {
-    private final Texture texture;
+    private final TextureRegion region;
     private final Rectangle bounds;
     private final float x;
     private final float y;
 
-    public Door(float x, float y) {
-        this.texture = new Texture(Gdx.files.internal("door.png"));
+    public Door(TextureRegion region, float x, float y) {
+        this.region = region;
         this.x = x;
         this.y = y;
-        this.bounds = new Rectangle(x, y, texture.getWidth(), texture.getHeight());
+        this.bounds = new Rectangle(x, y, region.getRegionWidth(), region.getRegionHeight());
     }
 
     public Rectangle getBounds() {
@@ -23,10 +22,6 @@ public class Door {
     }
 
     public void draw(SpriteBatch batch) {
-        batch.draw(texture, x, y);
-    }
-
-    public void dispose() {
-        texture.dispose();
+        batch.draw(region, x, y);
     }
 }
@@ -0,0 +1,18 @@
+package game.info;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+public class FadeComponent implements Component, Pool.Poolable {
+    public float timer;
+    public float duration;
+
+    public float getAlpha() {
+        return duration > 0 ? Math.max(0, timer / duration) : 0;
+    }
+
+    @Override
+    public void reset() {
+        timer = duration = 0;
+    }
+}
@@ -0,0 +1,47 @@
+package game.info;
+
+public class FixedTimestep {
+    private float stepDuration;
+    private int maxCatchUpSteps;
+    private float accumulator;
+
+    public FixedTimestep(int ticksPerSecond, int maxCatchUpSteps) {
+        setTickRate(ticksPerSecond);
+        setMaxCatchUpSteps(maxCatchUpSteps);
+    }
+
+    public int advance(float delta) {
+        accumulator += delta;
+        int steps = (int) (accumulator / stepDuration);
+        if (steps > maxCatchUpSteps) {
+            steps = maxCatchUpSteps;
+            accumulator = steps * stepDuration;
+        }
+        accumulator -= steps * stepDuration;
+        return steps;
+    }
+
+    public float getAlpha() {
+        return Math.min(1f, accumulator / stepDuration);
+    }
+
+    public float getStepDuration() {
+        return stepDuration;
+    }
+
+    public int getTickRate() {
+        return Math.round(1f / stepDuration);
+    }
+
+    public void setTickRate(int ticksPerSecond) {
+        this.stepDuration = 1f / Math.max(1, ticksPerSecond);
+    }
+
+    public void setMaxCatchUpSteps(int maxCatchUpSteps) {
+        this.maxCatchUpSteps = Math.max(1, maxCatchUpSteps);
+    }
+
+    public void reset() {
+        accumulator = 0;
+    }
+}
@@ -0,0 +1,233 @@
+package game.info;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntSet;
+
+import java.util.Arrays;
+
+// Shortest-path directions from every tile toward one target tile. Rebuilt only when the
+// target changes tile, then sampled by any number of monsters in O(1).
+public class FlowField {
+    public static final int BLOCKED = 0;
+    public static final int GROUND_COST = 1;
+    public static final int ROUGH_COST = 6;
+
+    private static final int STRAIGHT_STEP = 10;
+    private static final int DIAGONAL_STEP = 14;
+    private static final int UNREACHED = Integer.MAX_VALUE;
+    private static final int NO_DIRECTION = -1;
+    private static final int[] NEIGHBOUR_X = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] NEIGHBOUR_Y = {0, 0, 1, -1, 1, -1, 1, -1};
+    private static final float[] DIRECTION_X = new float[8];
+    private static final float[] DIRECTION_Y = new float[8];
+
+    static {
+        for (int i = 0; i < 8; i++) {
+            float length = (float) Math.sqrt(NEIGHBOUR_X[i] * NEIGHBOUR_X[i] + NEIGHBOUR_Y[i] * NEIGHBOUR_Y[i]);
+            DIRECTION_X[i] = NEIGHBOUR_X[i] / length;
+            DIRECTION_Y[i] = NEIGHBOUR_Y[i] / length;
+        }
+    }
+
+    private final int width;
+    private final int height;
+    private final float tileSize;
+    private final float inverseTileSize;
+    private final byte[] cost;
+    private final int[] distance;
+    private final byte[] direction;
+    private final IntArray[] buckets;
+    private int targetCell = -1;
+    private int rebuildCount;
+
+    public FlowField(int width, int height, float tileSize) {
+        this.width = width;
+        this.height = height;
+        this.tileSize = tileSize;
+        this.inverseTileSize = 1f / tileSize;
+        cost = new byte[width * height];
+        distance = new int[width * height];
+        direction = new byte[width * height];
+        Arrays.fill(cost, (byte) GROUND_COST);
+        Arrays.fill(direction, (byte) NO_DIRECTION);
+        buckets = new IntArray[DIAGONAL_STEP * ROUGH_COST + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new IntArray();
+        }
+    }
+
+    // Tiles from a layer, tileset or tile with a "blocked" property are walls (the dungeon
+    // marks its two wall tilesets this way). Other tiles cost
+    // GROUND_COST inside the island and ROUGH_COST elsewhere, so stragglers spawned off
+    // the island still find their way onto it instead of being stranded.
+    public static FlowField fromMap(TiledMap map, int width, int height, float tileSize,
+                                    float islandMinX, float islandMinY, float islandMaxX, float islandMaxY) {
+        FlowField field = new FlowField(width, height, tileSize);
+        for (int cellY = 0; cellY < height; cellY++) {
+            for (int cellX = 0; cellX < width; cellX++) {
+                float centerX = (cellX + 0.5f) * tileSize;
+                float centerY = (cellY + 0.5f) * tileSize;
+                boolean onIsland = centerX >= islandMinX && centerX <= islandMaxX
+                    && centerY >= islandMinY && centerY <= islandMaxY;
+                field.setCost(cellX, cellY, onIsland ? GROUND_COST : ROUGH_COST);
+            }
+        }
+
+        IntSet blockedTiles = new IntSet();
+        for (TiledMapTileSet tileSet : map.getTileSets()) {
+            if (!tileSet.getProperties().get("blocked", false, Boolean.class)) continue;
+            for (TiledMapTile tile : tileSet) {
+                blockedTiles.add(tile.getId());
+            }
+        }
+
+        for (MapLayer mapLayer : map.getLayers()) {
+            if (!(mapLayer instanceof TiledMapTileLayer)) continue;
+            TiledMapTileLayer layer = (TiledMapTileLayer) mapLayer;
+            boolean layerBlocked = layer.getProperties().get("blocked", false, Boolean.class);
+            int layerWidth = Math.min(width, layer.getWidth());
+            int layerHeight = Math.min(height, layer.getHeight());
+            for (int cellY = 0; cellY < layerHeight; cellY++) {
+                for (int cellX = 0; cellX < layerWidth; cellX++) {
+                    TiledMapTileLayer.Cell cell = layer.getCell(cellX, cellY);
+                    if (cell == null || cell.getTile() == null) continue;
+                    TiledMapTile tile = cell.getTile();
+                    if (layerBlocked || blockedTiles.contains(tile.getId())
+                        || tile.getProperties().get("blocked", false, Boolean.class)) {
+                        field.setCost(cellX, cellY, BLOCKED);
+                    }
+                }
+            }
+        }
+        return field;
+    }
+
+    public void setCost(int cellX, int cellY, int tileCost) {
+        cost[cellY * width + cellX] = (byte) MathUtils.clamp(tileCost, BLOCKED, ROUGH_COST);
+        targetCell = -1;
+    }
+
+    public int getCost(int cellX, int cellY) {
+        return cost[cellY * width + cellX];
+    }
+
+    // Returns true when the field had to be rebuilt.
+    public boolean setTarget(float x, float y) {
+        int cell = cellAt(x, y);
+        if (cell < 0 || cell == targetCell) return false;
+        targetCell = cell;
+        rebuild();
+        return true;
+    }
+
+    public int cellAt(float x, float y) {
+        int cellX = MathUtils.floor(x * inverseTileSize);
+        int cellY = MathUtils.floor(y * inverseTileSize);
+        if (cellX < 0 || cellY < 0 || cellX >= width || cellY >= height) return -1;
+        return cellY * width + cellX;
+    }
+
+    public boolean hasDirection(int cell) {
+        return cell >= 0 && direction[cell] != NO_DIRECTION;
+    }
+
+    public float getDirectionX(int cell) {
+        return DIRECTION_X[direction[cell]];
+    }
+
+    public float getDirectionY(int cell) {
+        return DIRECTION_Y[direction[cell]];
+    }
+
+    public int getDistance(int cell) {
+        return distance[cell];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public float getTileSize() {
+        return tileSize;
+    }
+
+    public int getRebuildCount() {
+        return rebuildCount;
+    }
+
+    // Dijkstra with a circular bucket queue (edge costs are small integers), so a rebuild is
+    // linear in the number of tiles rather than n log n.
+    private void rebuild() {
+        rebuildCount++;
+        Arrays.fill(distance, UNREACHED);
+        Arrays.fill(direction, (byte) NO_DIRECTION);
+        for (IntArray bucket : buckets) {
+            bucket.clear();
+        }
+
+        distance[targetCell] = 0;
+        buckets[0].add(targetCell);
+        int pending = 1;
+        for (int current = 0; pending > 0; current++) {
+            IntArray bucket = buckets[current % buckets.length];
+            for (int i = 0; i < bucket.size; i++) {
+                int cell = bucket.get(i);
+                pending--;
+                if (distance[cell] != current) continue;
+                pending += relaxNeighbours(cell, current);
+            }
+            bucket.clear();
+        }
+    }
+
+    private int relaxNeighbours(int cell, int current) {
+        int cellX = cell % width;
+        int cellY = cell / width;
+        int added = 0;
+        for (int i = 0; i < 8; i++) {
+            int neighbourX = cellX + NEIGHBOUR_X[i];
+            int neighbourY = cellY + NEIGHBOUR_Y[i];
+            if (neighbourX < 0 || neighbourY < 0 || neighbourX >= width || neighbourY >= height) continue;
+            int neighbour = neighbourY * width + neighbourX;
+            int enterCost = cost[neighbour];
+            if (enterCost == BLOCKED) continue;
+
+            boolean diagonal = i >= 4;
+            if (diagonal && (cost[cellY * width + neighbourX] == BLOCKED || cost[neighbourY * width + cellX] == BLOCKED)) {
+                continue;
+            }
+            int next = current + enterCost * (diagonal ? DIAGONAL_STEP : STRAIGHT_STEP);
+            if (next < distance[neighbour]) {
+                distance[neighbour] = next;
+                // Neighbour i of this cell points back at it through the opposite direction.
+                direction[neighbour] = (byte) opposite(i);
+                buckets[next % buckets.length].add(neighbour);
+                added++;
+            }
+        }
+        return added;
+    }
+
+    private static int opposite(int i) {
+        switch (i) {
+            case 0: return 1;
+            case 1: return 0;
+            case 2: return 3;
+            case 3: return 2;
+            case 4: return 7;
+            case 5: return 6;
+            case 6: return 5;
+            default: return 4;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package game.info;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+// Hero, monster and pet animations built from the atlases once per session. Every screen gets
+// the same Animation instance for the same sprite set, so they are shared: only read frames
+// from them, never change their play mode or frame duration.
+public class GameAnimations {
+    private static final float HERO_FRAME_DURATION = 0.2f;
+    private static final float MONSTER_FRAME_DURATION = 0.25f;
+    private static final float PET_FRAME_DURATION = 0.2f;
+    private static final float KNIGHT_FRAME_DURATION = 0.9f;
+
+    private final GameAtlases atlases;
+    private final ObjectMap<String, Animation<TextureRegion>> heroWalks = new ObjectMap<>();
+    private final ObjectMap<String, Animation<TextureRegion>> monsterWalks = new ObjectMap<>();
+    private final ObjectMap<String, Animation<TextureRegion>> pets = new ObjectMap<>();
+    private final ObjectMap<String, Animation<TextureRegion>> petPreviews = new ObjectMap<>();
+    private Animation<TextureRegion> knight;
+
+    public GameAnimations(GameAtlases atlases) {
+        this.atlases = atlases;
+    }
+
+    public TextureRegion heroIdle(String hero) {
+        return atlases.arena(getHeroSprites(hero)[0]);
+    }
+
+    public Animation<TextureRegion> heroWalk(String hero) {
+        String[] sprites = getHeroSprites(hero);
+        Animation<TextureRegion> walk = heroWalks.get(sprites[0]);
+        if (walk == null) {
+            walk = create(HERO_FRAME_DURATION, atlases.arena(sprites[1]), atlases.arena(sprites[2]));
+            heroWalks.put(sprites[0], walk);
+        }
+        return walk;
+    }
+
+    public Animation<TextureRegion> monsterWalk(ArenaLevel level) {
+        Animation<TextureRegion> walk = monsterWalks.get(level.getName());
+        if (walk == null) {
+            walk = create(MONSTER_FRAME_DURATION,
+                atlases.arena(level.getMonsterWalkSprite(0)), atlases.arena(level.getMonsterWalkSprite(1)));
+            monsterWalks.put(level.getName(), walk);
+        }
+        return walk;
+    }
+
+    // The pet following the hero, or null when no pet (or an unknown one) is selected.
+    public Animation<TextureRegion> pet(String pet) {
+        String[] sprites = getPetSprites(pet);
+        if (sprites == null) return null;
+        Animation<TextureRegion> animation = pets.get(pet);
+        if (animation == null) {
+            animation = create(PET_FRAME_DURATION, atlases.arena(sprites[0]), atlases.arena(sprites[1]));
+            pets.put(pet, animation);
+        }
+        return animation;
+    }
+
+    // The same pet drawn from the shop atlas, for the pet shop.
+    public Animation<TextureRegion> petPreview(String pet) {
+        String[] sprites = getPetSprites(pet);
+        if (sprites == null) return null;
+        Animation<TextureRegion> animation = petPreviews.get(pet);
+        if (animation == null) {
+            animation = create(PET_FRAME_DURATION, atlases.shop(sprites[0]), atlases.shop(sprites[1]));
+            petPreviews.put(pet, animation);
+        }
+        return animation;
+    }
+
+    public Animation<TextureRegion> knight() {
+        if (knight == null) {
+            knight = new Animation<>(KNIGHT_FRAME_DURATION, atlases.arena("kn1"), atlases.arena("kn3"));
+        }
+        return knight;
+    }
+
+    private static Animation<TextureRegion> create(float frameDuration, TextureRegion frame1, TextureRegion frame2) {
+        return new Animation<>(frameDuration, new Array<>(new TextureRegion[]{frame1, frame2}), Animation.PlayMode.LOOP);
+    }
+
+    // Idle frame followed by the two walk frames.
+    private static String[] getHeroSprites(String hero) {
+        if (hero == null) hero = "";
+        switch (hero) {
+            case "man":
+                return new String[]{"man", "man1", "man2"};
+            case "dragon":
+                return new String[]{"dragon", "dragon1", "dragon3"};
+            case "girl":
+                return new String[]{"girl", "girl1", "girl2"};
+            default:
+                return new String[]{"player", "player1", "player2"};
+        }
+    }
+
+    private static String[] getPetSprites(String pet) {
+        if (pet == null) return null;
+        switch (pet) {
+            case "pet1":
+                return new String[]{"idle01", "idle02"};
+            case "pet2":
+                return new String[]{"goblin01", "goblin02"};
+            case "pet3":
+                return new String[]{"zombie01", "zombie02"};
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package game.info;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+// The sprite atlases packed by :lwjgl3:packTextures, one per drawing context. Each atlas is
+// loaded the first time one of its regions is asked for and then kept for the whole session,
+// so screens share pages instead of loading and disposing their own copies of each image.
+public class GameAtlases implements Disposable {
+    private TextureAtlas arena;
+    private TextureAtlas hud;
+    private TextureAtlas menus;
+    private TextureAtlas shop;
+    private TextureAtlas dialogs;
+
+    // Heroes, monsters, pets, projectiles and props drawn with the world camera.
+    public TextureRegion arena(String name) {
+        if (arena == null) arena = new TextureAtlas(Gdx.files.internal("atlases/arena.atlas"));
+        return find(arena, "arena", name);
+    }
+
+    // Health bar, pause and fire buttons, joystick and resource icons drawn over the world.
+    public TextureRegion hud(String name) {
+        if (hud == null) hud = new TextureAtlas(Gdx.files.internal("atlases/hud.atlas"));
+        return find(hud, "hud", name);
+    }
+
+    // Buttons of the title, settings, level select and developer screens.
+    public TextureRegion menus(String name) {
+        if (menus == null) menus = new TextureAtlas(Gdx.files.internal("atlases/menus.atlas"));
+        return find(menus, "menus", name);
+    }
+
+    // Buttons, icons and sprite previews of the hub and its shops.
+    public TextureRegion shop(String name) {
+        if (shop == null) shop = new TextureAtlas(Gdx.files.internal("atlases/shop.atlas"));
+        return find(shop, "shop", name);
+    }
+
+    // Buttons and resource icons of the pause and game over screens.
+    public TextureRegion dialogs(String name) {
+        if (dialogs == null) dialogs = new TextureAtlas(Gdx.files.internal("atlases/dialogs.atlas"));
+        return find(dialogs, "dialogs", name);
+    }
+
+    private static TextureRegion find(TextureAtlas atlas, String atlasName, String name) {
+        TextureRegion region = atlas.findRegion(name);
+        if (region == null) throw new GdxRuntimeException("No region \"" + name + "\" in the " + atlasName + " atlas");
+        return region;
+    }
+
+    @Override
+    public void dispose() {
+        if (arena != null) arena.dispose();
+        if (hud != null) hud.dispose();
+        if (menus != null) menus.dispose();
+        if (shop != null) shop.dispose();
+        if (dialogs != null) dialogs.dispose();
+        arena = hud = menus = shop = dialogs = null;
+    }
+}
@@ -6,7 +6,6 @@ import com.badlogic.gdx.graphics.g2d.*;
 import com.badlogic.gdx.maps.tiled.*;
 import com.badlogic.gdx.maps.tiled.renderers.*;
 import com.badlogic.gdx.math.*;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.*;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
@@ -17,7 +16,7 @@ import com.badlogic.gdx.scenes.scene2d.Actor;
 public class GameScreen implements Screen, InputProcessor {
     private final MyGames game;
     private OrthographicCamera gameCamera;
-    private FillViewport gameViewport;
+    private WorldRenderTarget worldTarget;
     private OrthographicCamera uiCamera;
     private ScreenViewport uiViewport;
     private TiledMap tiledMap;
@@ -30,11 +29,10 @@ public class GameScreen implements Screen, InputProcessor {
     // UI Elements
     private Stage uiStage;
     private ImageButton backButton;
-    private Texture backBtnNormal;
-    private Texture backBtnPressed;
-    private Texture diamondTexture;
+    private TextureRegion backBtnNormal;
+    private TextureRegion backBtnPressed;
+    private ResourceCounter resourceCounter;
     private BitmapFont font;
-    private Texture spellTexture;
 
     // Pet system
     private Animation<TextureRegion> petAnimation;
@@ -70,7 +68,7 @@ public class GameScreen implements Screen, InputProcessor {
     private float knightX = DOOR_X - 100;
     private float knightY = DOOR_Y;
     private Rectangle knightBounds;
-    private Texture hiTexture;
+    private TextureRegion hiRegion;
 
     public GameScreen(MyGames game) {
         this.game = game;
@@ -79,18 +77,17 @@ public class GameScreen implements Screen, InputProcessor {
 
     private void initialize() {
         gameCamera = new OrthographicCamera();
-        gameViewport = new FillViewport(MyGames.WIDTH / INITIAL_ZOOM, MyGames.HEIGHT / INITIAL_ZOOM, gameCamera);
+        worldTarget = new WorldRenderTarget(gameCamera, (int) (MyGames.WIDTH / INITIAL_ZOOM), (int) (MyGames.HEIGHT / INITIAL_ZOOM));
         uiCamera = new OrthographicCamera();
         uiViewport = new ScreenViewport(uiCamera);
-        batch = new SpriteBatch();
+        batch = game.getBatch();
         uiStage = new Stage(new ScreenViewport(uiCamera), batch);
-        hiTexture = new Texture(Gdx.files.internal("hi.png"));
+        hiRegion = game.getAtlases().arena("hi");
 
         // Load UI assets
-        spellTexture = new Texture(Gdx.files.internal("spell.png"));
-        diamondTexture = new Texture(Gdx.files.internal("stone.png"));
         font = new BitmapFont();
         font.getData().setScale(3f);
+        resourceCounter = new ResourceCounter(font, game.getAtlases().hud("stone"), game.getAtlases().hud("spell"));
     }
 
     @Override
@@ -104,17 +101,11 @@ public class GameScreen implements Screen, InputProcessor {
             setupBackButton();
             setupPet();
 
-            Texture knightTexture1 = new Texture(Gdx.files.internal("kn1.png"));
-            Texture knightTexture2 = new Texture(Gdx.files.internal("kn3.png"));
-
-            Array<TextureRegion> knightFrames = new Array<>();
-            knightFrames.add(new TextureRegion(knightTexture1));
-            knightFrames.add(new TextureRegion(knightTexture2));
-
-            knightAnimation = new Animation<>(0.9f, knightFrames);
+            knightAnimation = game.getAnimations().knight();
+            TextureRegion knightFrame1 = knightAnimation.getKeyFrames()[0];
             knightBounds = new Rectangle(knightX, knightY,
-                knightTexture1.getWidth(),
-                knightTexture1.getHeight());
+                knightFrame1.getRegionWidth(),
+                knightFrame1.getRegionHeight());
 
 
             InputMultiplexer multiplexer = new InputMultiplexer();
@@ -125,8 +116,8 @@ public class GameScreen implements Screen, InputProcessor {
 
             game.resetActiveUpgrades();
 
-            door = new Door(DOOR_X, DOOR_Y);
-            chest = new Chest(CHEST_X, CHEST_Y);
+            door = new Door(game.getAtlases().arena("door"), DOOR_X, DOOR_Y);
+            chest = new Chest(game.getAtlases().arena("shop"), CHEST_X, CHEST_Y);
         } catch (Exception e) {
             Gdx.app.error("GameScreen", "Show failed: " + e.getMessage());
             game.setScreen(new MainMenuScreen(game));
@@ -134,34 +125,8 @@ public class GameScreen implements Screen, InputProcessor {
     }
 
     private void setupPet() {
-        String pet = game.getCurrentPet();
-        if (pet == null || pet.equals("none")) {
-            return;
-        }
-
         try {
-            Texture petTexture1, petTexture2;
-            switch (pet) {
-                case "pet1":
-                    petTexture1 = new Texture(Gdx.files.internal("idle01.png"));
-                    petTexture2 = new Texture(Gdx.files.internal("idle02.png"));
-                    break;
-                case "pet2":
-                    petTexture1 = new Texture(Gdx.files.internal("goblin01.png"));
-                    petTexture2 = new Texture(Gdx.files.internal("goblin02.png"));
-                    break;
-                case "pet3":
-                    petTexture1 = new Texture(Gdx.files.internal("zombie01.png"));
-                    petTexture2 = new Texture(Gdx.files.internal("zombie02.png"));
-                    break;
-                default:
-                    return;
-            }
-
-            Array<TextureRegion> frames = new Array<>();
-            frames.add(new TextureRegion(petTexture1));
-            frames.add(new TextureRegion(petTexture2));
-            petAnimation = new Animation<>(0.2f, frames, Animation.PlayMode.LOOP);
+            petAnimation = game.getAnimations().pet(game.getCurrentPet());
         } catch (Exception e) {
             Gdx.app.error("GameScreen", "Pet setup failed: " + e.getMessage());
         }
@@ -176,7 +141,7 @@ public class GameScreen implements Screen, InputProcessor {
             }
 
             tiledMap = new TmxMapLoader().load(mapPath);
-            tiledMapRenderer = new OrthogonalTiledMapRenderer(tiledMap);
+            tiledMapRenderer = new OrthogonalTiledMapRenderer(tiledMap, batch);
 
             for (int i = 0; i < tiledMap.getLayers().getCount(); i++) {
                 tiledMap.getLayers().get(i).getProperties().put("textureminfilter", "Nearest");
@@ -186,7 +151,7 @@ public class GameScreen implements Screen, InputProcessor {
             Gdx.app.error("GameScreen", "Map loading failed: " + e.getMessage());
             try {
                 tiledMap = new TmxMapLoader().load("map1/map1.tmx");
-                tiledMapRenderer = new OrthogonalTiledMapRenderer(tiledMap);
+                tiledMapRenderer = new OrthogonalTiledMapRenderer(tiledMap, batch);
             } catch (Exception fallbackEx) {
                 throw new RuntimeException("Fallback map loading failed", fallbackEx);
             }
@@ -232,36 +197,8 @@ public class GameScreen implements Screen, InputProcessor {
     private void createPlayer() {
         try {
             String hero = game.getCurrentHero();
-            Texture idleTexture, walkTexture1, walkTexture2;
-
-            switch (hero) {
-                case "man":
-                    idleTexture = new Texture(Gdx.files.internal("man.png"));
-                    walkTexture1 = new Texture(Gdx.files.internal("man1.png"));
-                    walkTexture2 = new Texture(Gdx.files.internal("man2.png"));
-                    break;
-                case "dragon":
-                    idleTexture = new Texture(Gdx.files.internal("dragon.png"));
-                    walkTexture1 = new Texture(Gdx.files.internal("dragon1.png"));
-                    walkTexture2 = new Texture(Gdx.files.internal("dragon3.png"));
-                    break;
-                case "girl":
-                    idleTexture = new Texture(Gdx.files.internal("girl.png"));
-                    walkTexture1 = new Texture(Gdx.files.internal("girl1.png"));
-                    walkTexture2 = new Texture(Gdx.files.internal("girl2.png"));
-                    break;
-                default:
-                    idleTexture = new Texture(Gdx.files.internal("player.png"));
-                    walkTexture1 = new Texture(Gdx.files.internal("player1.png"));
-                    walkTexture2 = new Texture(Gdx.files.internal("player2.png"));
-            }
-
-            idleTexture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-            walkTexture1.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-            walkTexture2.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-
-            Texture[] walkTextures = {walkTexture1, walkTexture2};
-            player = new Player(idleTexture, walkTextures,
+            GameAnimations animations = game.getAnimations();
+            player = new Player(animations.heroIdle(hero), animations.heroWalk(hero),
                 MAP_WIDTH / 2f, MAP_HEIGHT / 2f,
                 PLAYER_SPEED);
         } catch (Exception e) {
@@ -272,11 +209,8 @@ public class GameScreen implements Screen, InputProcessor {
 
     private void setupJoystick() {
         try {
-            Texture knob = new Texture(Gdx.files.internal("knob.png"));
-            Texture base = new Texture(Gdx.files.internal("base.png"));
-            knob.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-            base.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
-            joystick = new Joystick(knob, base, JOYSTICK_MARGIN, JOYSTICK_MARGIN, JOYSTICK_SIZE / 2);
+            joystick = new Joystick(game.getAtlases().hud("knob"), game.getAtlases().hud("base"),
+                JOYSTICK_MARGIN, JOYSTICK_MARGIN, JOYSTICK_SIZE / 2);
         } catch (Exception e) {
             Gdx.app.error("GameScreen", "Joystick setup failed: " + e.getMessage());
         }
@@ -284,8 +218,8 @@ public class GameScreen implements Screen, InputProcessor {
 
     private void setupBackButton() {
         try {
-            backBtnNormal = new Texture(Gdx.files.internal("back01.png"));
-            backBtnPressed = new Texture(Gdx.files.internal("back02.png"));
+            backBtnNormal = game.getAtlases().shop("back01");
+            backBtnPressed = game.getAtlases().shop("back02");
 
             ImageButton.ImageButtonStyle buttonStyle = new ImageButton.ImageButtonStyle();
             buttonStyle.up = new TextureRegionDrawable(backBtnNormal);
@@ -294,8 +228,8 @@ public class GameScreen implements Screen, InputProcessor {
 
             backButton = new ImageButton(buttonStyle);
             backButton.getImage().setScale(BACK_BUTTON_SCALE);
-            backButton.setSize(backBtnNormal.getWidth() * BACK_BUTTON_SCALE,
-                backBtnNormal.getHeight() * BACK_BUTTON_SCALE);
+            backButton.setSize(backBtnNormal.getRegionWidth() * BACK_BUTTON_SCALE,
+                backBtnNormal.getRegionHeight() * BACK_BUTTON_SCALE);
 
             backButton.addListener(new ChangeListener() {
                 @Override
@@ -322,24 +256,6 @@ public class GameScreen implements Screen, InputProcessor {
             knightAnimationTime += delta;
             renderGameWorld();
 
-            batch.setProjectionMatrix(gameCamera.combined);
-            batch.begin();
-            door.draw(batch);
-            chest.draw(batch);
-            drawPet();
-
-
-
-            TextureRegion currentKnightFrame = knightAnimation.getKeyFrame(knightAnimationTime, true);
-            batch.draw(currentKnightFrame, knightX, knightY);
-            /*  if (hiTexture != null) {
-                float hiX = knightX + (knightBounds.width - hiTexture.getWidth()) / 2;
-                float hiY = knightY + knightBounds.height - 3;
-                batch.draw(hiTexture, hiX, hiY);
-            }*/
-
-            batch.end();
-
             knightAnimationTime += delta;
 
             renderUI();
@@ -358,7 +274,7 @@ public class GameScreen implements Screen, InputProcessor {
                 MathUtils.clamp(player.getY(), gameCamera.viewportHeight / 2, MAP_HEIGHT - gameCamera.viewportHeight / 2),
                 0
             );
-            gameCamera.update();
+            worldTarget.snapCamera();
         }
     }
 
@@ -407,8 +323,8 @@ public class GameScreen implements Screen, InputProcessor {
     }
 
     private void renderGameWorld() {
-        if (gameViewport != null && tiledMapRenderer != null && gameCamera != null) {
-            gameViewport.apply();
+        if (worldTarget != null && tiledMapRenderer != null && gameCamera != null) {
+            worldTarget.begin(0.1f, 0.1f, 0.1f);
             tiledMapRenderer.setView(gameCamera);
             tiledMapRenderer.render();
 
@@ -417,7 +333,20 @@ public class GameScreen implements Screen, InputProcessor {
             if (player != null) {
                 player.draw(batch);
             }
+            door.draw(batch);
+            chest.draw(batch);
+            drawPet();
+
+            TextureRegion currentKnightFrame = knightAnimation.getKeyFrame(knightAnimationTime, true);
+            batch.draw(currentKnightFrame, knightX, knightY);
+            /*  if (hiRegion != null) {
+                float hiX = knightX + (knightBounds.width - hiRegion.getRegionWidth()) / 2;
+                float hiY = knightY + knightBounds.height - 3;
+                batch.draw(hiRegion, hiX, hiY);
+            }*/
             batch.end();
+            worldTarget.end();
+            worldTarget.draw(batch);
         }
     }
 
@@ -431,31 +360,9 @@ public class GameScreen implements Screen, InputProcessor {
                 joystick.draw(batch);
             }
 
-            if (font != null && diamondTexture != null && spellTexture != null) {
-                float RESOURCE_SIZE = 100f;
-                float PADDING_RIGHT = 15f;
-                float PADDING_TOP = 15f;
-                float TEXT_ICON_SPACING = 5f;
-
-                String spellsText = String.valueOf(game.spellsCollected);
-                String diamondsText = String.valueOf(MyGames.diamonds);
-
-                GlyphLayout spellsLayout = new GlyphLayout(font, spellsText);
-                GlyphLayout diamondsLayout = new GlyphLayout(font, diamondsText);
-
-                float currentX = Gdx.graphics.getWidth() - PADDING_RIGHT;
-                float yPos = Gdx.graphics.getHeight() - PADDING_TOP - RESOURCE_SIZE;
-
-                float diamondsIconX = currentX - RESOURCE_SIZE;
-                float diamondsTextX = diamondsIconX - TEXT_ICON_SPACING - diamondsLayout.width;
-                batch.draw(diamondTexture, diamondsIconX, yPos, RESOURCE_SIZE, RESOURCE_SIZE);
-                font.draw(batch, diamondsText, diamondsTextX, yPos + RESOURCE_SIZE/2 + diamondsLayout.height/2);
-
-                currentX = diamondsTextX - PADDING_RIGHT;
-                float spellsIconX = currentX - RESOURCE_SIZE;
-                float spellsTextX = spellsIconX - TEXT_ICON_SPACING - spellsLayout.width;
-                batch.draw(spellTexture, spellsIconX, yPos, RESOURCE_SIZE, RESOURCE_SIZE);
-                font.draw(batch, spellsText, spellsTextX, yPos + RESOURCE_SIZE/2 + spellsLayout.height/2);
+            if (resourceCounter != null) {
+                resourceCounter.draw(batch, MyGames.diamonds, game.spellsCollected,
+                    Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
             }
 
             batch.end();
@@ -469,8 +376,8 @@ public class GameScreen implements Screen, InputProcessor {
 
     @Override
     public void resize(int width, int height) {
-        if (gameViewport != null) {
-            gameViewport.update(width, height, true);
+        if (worldTarget != null) {
+            worldTarget.resize(width, height);
         }
         if (uiViewport != null) {
             uiViewport.update(width, height, true);
@@ -484,8 +391,8 @@ public class GameScreen implements Screen, InputProcessor {
             joystick.setPosition(JOYSTICK_MARGIN, JOYSTICK_MARGIN);
         }
         if (backButton != null && backBtnNormal != null) {
-            float buttonWidth = backBtnNormal.getWidth() * BACK_BUTTON_SCALE;
-            float buttonHeight = backBtnNormal.getHeight() * BACK_BUTTON_SCALE;
+            float buttonWidth = backBtnNormal.getRegionWidth() * BACK_BUTTON_SCALE;
+            float buttonHeight = backBtnNormal.getRegionHeight() * BACK_BUTTON_SCALE;
             backButton.setPosition((width - buttonWidth) / 2, 10);
         }
     }
@@ -493,26 +400,11 @@ public class GameScreen implements Screen, InputProcessor {
     @Override
     public void dispose() {
         try {
-            if (petAnimation != null) {
-                for (TextureRegion frame : petAnimation.getKeyFrames()) {
-                    if (frame != null && frame.getTexture() != null) {
-                        frame.getTexture().dispose();
-                    }
-                }
-            }
-            if (hiTexture != null) hiTexture.dispose();
             // Dispose other resources
             if (tiledMap != null) tiledMap.dispose();
+            if (worldTarget != null) worldTarget.dispose();
             if (player != null) player.dispose();
-            if (joystick != null) joystick.dispose();
-            if (batch != null) batch.dispose();
-            if (door != null) door.dispose();
-            if (chest != null) chest.dispose();
             if (uiStage != null) uiStage.dispose();
-            if (backBtnNormal != null) backBtnNormal.dispose();
-            if (backBtnPressed != null) backBtnPressed.dispose();
-            if (diamondTexture != null) diamondTexture.dispose();
-            if (spellTexture != null) spellTexture.dispose();
             if (font != null) font.dispose();
         } catch (Exception e) {
             Gdx.app.error("GameScreen", "Dispose failed: " + e.getMessage());
@@ -537,8 +429,8 @@ public class GameScreen implements Screen, InputProcessor {
             }
 
             Vector3 touchPosGame = new Vector3(screenX, screenY, 0);
-            if (gameCamera != null) {
-                gameCamera.unproject(touchPosGame);
+            if (worldTarget != null) {
+                worldTarget.unproject(touchPosGame);
             }
 
             // Проверка нажатия на рыцаря
@@ -5,6 +5,7 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -24,11 +25,11 @@ public class HeroesScreen implements Screen {
 
     private Texture background;
     private Texture backgroundTexture;
-    private Texture backBtnNormal, backBtnPressed;
-    private Texture yesBtnNormal, yesBtnPressed;
-    private Texture defaultHeroBtn, manHeroBtn, dragonHeroBtn, girlHeroBtn;
-    private Texture diamondTexture;
-    private Texture spellTexture;
+    private TextureRegion backBtnNormal, backBtnPressed;
+    private TextureRegion yesBtnNormal, yesBtnPressed;
+    private TextureRegion defaultHeroBtn, manHeroBtn, dragonHeroBtn, girlHeroBtn;
+    private TextureRegion diamondRegion;
+    private TextureRegion spellRegion;
 
     private ImageButton backButton, yesButton;
     private ImageButton defaultHeroButton, manHeroButton, dragonHeroButton, girlHeroButton;
@@ -52,29 +53,29 @@ public class HeroesScreen implements Screen {
 
     public HeroesScreen(final MyGames game) {
         this.game = game;
-        batch = new SpriteBatch();
+        batch = game.getBatch();
     }
 
     @Override
     public void show() {
-        stage = new Stage(new ScreenViewport());
+        stage = new Stage(new ScreenViewport(), batch);
         Gdx.input.setInputProcessor(stage);
 
         game.playDefaultMusic();
 
         background = new Texture(Gdx.files.internal("space1.png"));
         backgroundTexture = new Texture(Gdx.files.internal("space1.png"));
-        backBtnNormal = new Texture(Gdx.files.internal("back01.png"));
-        backBtnPressed = new Texture(Gdx.files.internal("back02.png"));
-        yesBtnNormal = new Texture(Gdx.files.internal("yes01.png"));
-        yesBtnPressed = new Texture(Gdx.files.internal("yes02.png"));
-
-        defaultHeroBtn = new Texture(Gdx.files.internal("player.png"));
-        manHeroBtn = new Texture(Gdx.files.internal("man.png"));
-        dragonHeroBtn = new Texture(Gdx.files.internal("dragon.png"));
-        girlHeroBtn = new Texture(Gdx.files.internal("girl.png"));
-        diamondTexture = new Texture(Gdx.files.internal("stone.png"));
-        spellTexture = new Texture(Gdx.files.internal("spell.png"));
+        backBtnNormal = game.getAtlases().shop("back01");
+        backBtnPressed = game.getAtlases().shop("back02");
+        yesBtnNormal = game.getAtlases().shop("yes01");
+        yesBtnPressed = game.getAtlases().shop("yes02");
+
+        defaultHeroBtn = game.getAtlases().shop("player");
+        manHeroBtn = game.getAtlases().shop("man");
+        dragonHeroBtn = game.getAtlases().shop("dragon");
+        girlHeroBtn = game.getAtlases().shop("girl");
+        diamondRegion = game.getAtlases().shop("stone");
+        spellRegion = game.getAtlases().shop("spell");
 
         font = new BitmapFont();
         font.getData().setScale(3f);
@@ -104,13 +105,13 @@ public class HeroesScreen implements Screen {
 
         backButton = new ImageButton(backStyle);
         backButton.getImage().setScale(CONTROL_BUTTON_SCALE);
-        backButton.setSize(backBtnNormal.getWidth() * CONTROL_BUTTON_SCALE,
-            backBtnNormal.getHeight() * CONTROL_BUTTON_SCALE);
+        backButton.setSize(backBtnNormal.getRegionWidth() * CONTROL_BUTTON_SCALE,
+            backBtnNormal.getRegionHeight() * CONTROL_BUTTON_SCALE);
 
         yesButton = new ImageButton(yesStyle);
         yesButton.getImage().setScale(CONTROL_BUTTON_SCALE);
-        yesButton.setSize(yesBtnNormal.getWidth() * CONTROL_BUTTON_SCALE,
-            yesBtnNormal.getHeight() * CONTROL_BUTTON_SCALE);
+        yesButton.setSize(yesBtnNormal.getRegionWidth() * CONTROL_BUTTON_SCALE,
+            yesBtnNormal.getRegionHeight() * CONTROL_BUTTON_SCALE);
 
         Label.LabelStyle labelStyle = new Label.LabelStyle(font, Color.WHITE);
         defaultHeroPriceLabel = new Label("FREE", labelStyle);
@@ -148,7 +149,7 @@ public class HeroesScreen implements Screen {
         float currentX = Gdx.graphics.getWidth() - PADDING_RIGHT;
         float yPos = Gdx.graphics.getHeight() - PADDING_TOP - RESOURCE_SIZE;
 
-        ImageButton spellIcon = new ImageButton(new TextureRegionDrawable(spellTexture));
+        ImageButton spellIcon = new ImageButton(new TextureRegionDrawable(spellRegion));
         spellIcon.setSize(RESOURCE_SIZE, RESOURCE_SIZE);
         float spellsIconX = currentX - RESOURCE_SIZE;
         float spellsTextX = spellsIconX - TEXT_ICON_SPACING - spellsLayout.width;
@@ -156,7 +157,7 @@ public class HeroesScreen implements Screen {
             .padRight(TEXT_ICON_SPACING).padTop(PADDING_TOP);
         resourcesTable.add(spellIcon).size(RESOURCE_SIZE).padRight(PADDING_RIGHT).padTop(PADDING_TOP);
 
-        ImageButton diamondIcon = new ImageButton(new TextureRegionDrawable(diamondTexture));
+        ImageButton diamondIcon = new ImageButton(new TextureRegionDrawable(diamondRegion));
         diamondIcon.setSize(RESOURCE_SIZE, RESOURCE_SIZE);
         currentX = spellsTextX - PADDING_RIGHT;
         float diamondsIconX = currentX - RESOURCE_SIZE;
@@ -175,14 +176,14 @@ public class HeroesScreen implements Screen {
         setupListeners();
     }
 
-    private ImageButton createHeroButton(Texture texture, float scale) {
+    private ImageButton createHeroButton(TextureRegion region, float scale) {
         ImageButton.ImageButtonStyle style = new ImageButton.ImageButtonStyle();
-        style.up = new TextureRegionDrawable(texture);
-        style.down = new TextureRegionDrawable(texture);
+        style.up = new TextureRegionDrawable(region);
+        style.down = new TextureRegionDrawable(region);
 
         ImageButton button = new ImageButton(style);
         button.getImage().setScale(scale);
-        button.setSize(texture.getWidth() * scale, texture.getHeight() * scale);
+        button.setSize(region.getRegionWidth() * scale, region.getRegionHeight() * scale);
         return button;
     }
 
@@ -327,16 +328,6 @@ public class HeroesScreen implements Screen {
     public void dispose() {
         if (stage != null) stage.dispose();
         if (background != null) background.dispose();
-        if (backBtnNormal != null) backBtnNormal.dispose();
-        if (backBtnPressed != null) backBtnPressed.dispose();
-        if (yesBtnNormal != null) yesBtnNormal.dispose();
-        if (yesBtnPressed != null) yesBtnPressed.dispose();
-        if (defaultHeroBtn != null) defaultHeroBtn.dispose();
-        if (manHeroBtn != null) manHeroBtn.dispose();
-        if (dragonHeroBtn != null) dragonHeroBtn.dispose();
-        if (girlHeroBtn != null) girlHeroBtn.dispose();
-        if (diamondTexture != null) diamondTexture.dispose();
-        if (spellTexture != null) spellTexture.dispose();
         if (font != null) font.dispose();
     }
 
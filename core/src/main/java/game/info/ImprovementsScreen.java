@@ -5,6 +5,7 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -21,11 +22,11 @@ public class ImprovementsScreen implements Screen {
     private final MyGames game;
     private Stage stage;
     private Texture background;
-    private Texture backBtnNormal, backBtnPressed;
-    private Texture yesBtnNormal, yesBtnPressed;
-    private Texture weaponImpTexture, speedImpTexture, autoSpellTexture;
-    private Texture diamondTexture;
-    private Texture spellTexture;
+    private TextureRegion backBtnNormal, backBtnPressed;
+    private TextureRegion yesBtnNormal, yesBtnPressed;
+    private TextureRegion weaponImpRegion, speedImpRegion, autoSpellRegion;
+    private TextureRegion diamondRegion;
+    private TextureRegion spellRegion;
 
     private ImageButton backButton, yesButton;
     private ImageButton weaponImpButton, speedImpButton, autoSpellButton;
@@ -50,28 +51,28 @@ public class ImprovementsScreen implements Screen {
     private Texture backgroundTexture;
 
     public ImprovementsScreen(final MyGames game) {
-        batch = new SpriteBatch();
+        batch = game.getBatch();
         this.game = game;
     }
 
     @Override
     public void show() {
-        stage = new Stage(new ScreenViewport());
+        stage = new Stage(new ScreenViewport(), batch);
         Gdx.input.setInputProcessor(stage);
 
         game.playDefaultMusic();
 
         backgroundTexture = new Texture(Gdx.files.internal("space1.png"));
         background = new Texture(Gdx.files.internal("space1.png"));
-        backBtnNormal = new Texture(Gdx.files.internal("back01.png"));
-        backBtnPressed = new Texture(Gdx.files.internal("back02.png"));
-        yesBtnNormal = new Texture(Gdx.files.internal("yes01.png"));
-        yesBtnPressed = new Texture(Gdx.files.internal("yes02.png"));
-        weaponImpTexture = new Texture(Gdx.files.internal("imp/knife.png"));
-        speedImpTexture = new Texture(Gdx.files.internal("imp/speed_x2.png"));
-        autoSpellTexture = new Texture(Gdx.files.internal("imp/spell_auto.png"));
-        diamondTexture = new Texture(Gdx.files.internal("stone.png"));
-        spellTexture = new Texture(Gdx.files.internal("spell.png"));
+        backBtnNormal = game.getAtlases().shop("back01");
+        backBtnPressed = game.getAtlases().shop("back02");
+        yesBtnNormal = game.getAtlases().shop("yes01");
+        yesBtnPressed = game.getAtlases().shop("yes02");
+        weaponImpRegion = game.getAtlases().shop("knife");
+        speedImpRegion = game.getAtlases().shop("speed_x2");
+        autoSpellRegion = game.getAtlases().shop("spell_auto");
+        diamondRegion = game.getAtlases().shop("stone");
+        spellRegion = game.getAtlases().shop("spell");
 
         font = new BitmapFont();
         font.getData().setScale(3f);
@@ -94,19 +95,19 @@ public class ImprovementsScreen implements Screen {
         yesStyle.up = new TextureRegionDrawable(yesBtnNormal);
         yesStyle.down = new TextureRegionDrawable(yesBtnPressed);
 
-        weaponImpButton = createImpButton(weaponImpTexture, IMP_BUTTON_SCALE);
-        speedImpButton = createImpButton(speedImpTexture, IMP_BUTTON_SCALE);
-        autoSpellButton = createImpButton(autoSpellTexture, IMP_BUTTON_SCALE);
+        weaponImpButton = createImpButton(weaponImpRegion, IMP_BUTTON_SCALE);
+        speedImpButton = createImpButton(speedImpRegion, IMP_BUTTON_SCALE);
+        autoSpellButton = createImpButton(autoSpellRegion, IMP_BUTTON_SCALE);
 
         backButton = new ImageButton(backStyle);
         backButton.getImage().setScale(CONTROL_BUTTON_SCALE);
-        backButton.setSize(backBtnNormal.getWidth() * CONTROL_BUTTON_SCALE,
-            backBtnNormal.getHeight() * CONTROL_BUTTON_SCALE);
+        backButton.setSize(backBtnNormal.getRegionWidth() * CONTROL_BUTTON_SCALE,
+            backBtnNormal.getRegionHeight() * CONTROL_BUTTON_SCALE);
 
         yesButton = new ImageButton(yesStyle);
         yesButton.getImage().setScale(CONTROL_BUTTON_SCALE);
-        yesButton.setSize(yesBtnNormal.getWidth() * CONTROL_BUTTON_SCALE,
-            yesBtnNormal.getHeight() * CONTROL_BUTTON_SCALE);
+        yesButton.setSize(yesBtnNormal.getRegionWidth() * CONTROL_BUTTON_SCALE,
+            yesBtnNormal.getRegionHeight() * CONTROL_BUTTON_SCALE);
 
         Label.LabelStyle labelStyle = new Label.LabelStyle(font, Color.WHITE);
         Label.LabelStyle descStyle = new Label.LabelStyle(font, Color.YELLOW);
@@ -154,7 +155,7 @@ public class ImprovementsScreen implements Screen {
         float currentX = Gdx.graphics.getWidth() - PADDING_RIGHT;
         float yPos = Gdx.graphics.getHeight() - PADDING_TOP - RESOURCE_SIZE;
 
-        ImageButton spellIcon = new ImageButton(new TextureRegionDrawable(spellTexture));
+        ImageButton spellIcon = new ImageButton(new TextureRegionDrawable(spellRegion));
         spellIcon.setSize(RESOURCE_SIZE, RESOURCE_SIZE);
         float spellsIconX = currentX - RESOURCE_SIZE;
         float spellsTextX = spellsIconX - TEXT_ICON_SPACING - spellsLayout.width;
@@ -162,7 +163,7 @@ public class ImprovementsScreen implements Screen {
             .padRight(TEXT_ICON_SPACING).padTop(PADDING_TOP);
         resourcesTable.add(spellIcon).size(RESOURCE_SIZE).padRight(PADDING_RIGHT).padTop(PADDING_TOP);
 
-        ImageButton diamondIcon = new ImageButton(new TextureRegionDrawable(diamondTexture));
+        ImageButton diamondIcon = new ImageButton(new TextureRegionDrawable(diamondRegion));
         diamondIcon.setSize(RESOURCE_SIZE, RESOURCE_SIZE);
         currentX = spellsTextX - PADDING_RIGHT;
         float diamondsIconX = currentX - RESOURCE_SIZE;
@@ -180,14 +181,14 @@ public class ImprovementsScreen implements Screen {
         setupListeners();
     }
 
-    private ImageButton createImpButton(Texture texture, float scale) {
+    private ImageButton createImpButton(TextureRegion region, float scale) {
         ImageButton.ImageButtonStyle style = new ImageButton.ImageButtonStyle();
-        style.up = new TextureRegionDrawable(texture);
-        style.down = new TextureRegionDrawable(texture);
+        style.up = new TextureRegionDrawable(region);
+        style.down = new TextureRegionDrawable(region);
 
         ImageButton button = new ImageButton(style);
         button.getImage().setScale(scale);
-        button.setSize(texture.getWidth() * scale, texture.getHeight() * scale);
+        button.setSize(region.getRegionWidth() * scale, region.getRegionHeight() * scale);
         return button;
     }
 
@@ -331,15 +332,6 @@ public class ImprovementsScreen implements Screen {
     public void dispose() {
         if (stage != null) stage.dispose();
         if (background != null) background.dispose();
-        if (backBtnNormal != null) backBtnNormal.dispose();
-        if (backBtnPressed != null) backBtnPressed.dispose();
-        if (yesBtnNormal != null) yesBtnNormal.dispose();
-        if (yesBtnPressed != null) yesBtnPressed.dispose();
-        if (weaponImpTexture != null) weaponImpTexture.dispose();
-        if (speedImpTexture != null) speedImpTexture.dispose();
-        if (autoSpellTexture != null) autoSpellTexture.dispose();
-        if (diamondTexture != null) diamondTexture.dispose();
-        if (spellTexture != null) spellTexture.dispose();
         if (font != null) font.dispose();
     }
 
@@ -1,23 +1,23 @@
 package game.info;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.graphics.Color;
 
 public class Joystick {
-    private final Texture knobTexture;
-    private final Texture baseTexture;
+    private final TextureRegion knobRegion;
+    private final TextureRegion baseRegion;
     private final Vector2 basePosition;
     private final Vector2 knobPosition;
+    private final Vector2 direction = new Vector2();
     private final float radius;
     private boolean active;
 
 
-    public Joystick(Texture knobTexture, Texture baseTexture, float x, float y, float radius) {
-        this.knobTexture = knobTexture;
-        this.baseTexture = baseTexture;
-        this.basePosition = new Vector2(x + baseTexture.getWidth()/2f, y + baseTexture.getHeight()/2f);
+    public Joystick(TextureRegion knobRegion, TextureRegion baseRegion, float x, float y, float radius) {
+        this.knobRegion = knobRegion;
+        this.baseRegion = baseRegion;
+        this.basePosition = new Vector2(x + baseRegion.getRegionWidth()/2f, y + baseRegion.getRegionHeight()/2f);
         this.knobPosition = new Vector2(basePosition);
         this.radius = radius;
     }
@@ -38,20 +38,22 @@ public class Joystick {
     }
 
     private void updateKnobPosition(float x, float y) {
-        Vector2 direction = new Vector2(x - basePosition.x, y - basePosition.y);
-        float distance = direction.len();
+        float offsetX = x - basePosition.x;
+        float offsetY = y - basePosition.y;
+        float distance = Vector2.len(offsetX, offsetY);
 
         if (distance > radius) {
-            direction.scl(radius / distance);
+            offsetX *= radius / distance;
+            offsetY *= radius / distance;
         }
 
-        knobPosition.set(basePosition.x + direction.x, basePosition.y + direction.y);
+        knobPosition.set(basePosition.x + offsetX, basePosition.y + offsetY);
     }
 
     public Vector2 getDirection() {
         if (!active) return Vector2.Zero;
 
-        Vector2 direction = new Vector2(
+        direction.set(
             (knobPosition.x - basePosition.x) / radius,
             (knobPosition.y - basePosition.y) / radius
         );
@@ -60,22 +62,22 @@ public class Joystick {
     }
 
     public void draw(SpriteBatch batch) {
-        Color oldColor = batch.getColor().cpy();
+        float oldPackedColor = batch.getPackedColor();
 
         batch.setColor(1, 1, 1, 0.5f);
 
-        float baseWidth = baseTexture.getWidth() * 1.5f;
-        float baseHeight = baseTexture.getHeight() * 1.5f;
-        batch.draw(baseTexture,
+        float baseWidth = baseRegion.getRegionWidth() * 1.5f;
+        float baseHeight = baseRegion.getRegionHeight() * 1.5f;
+        batch.draw(baseRegion,
             basePosition.x - baseWidth / 2f,
             basePosition.y - baseHeight / 2f,
             baseWidth, baseHeight);
 
-        batch.setColor(oldColor);
+        batch.setPackedColor(oldPackedColor);
 
-        float knobWidth = knobTexture.getWidth() * 1.5f;
-        float knobHeight = knobTexture.getHeight() * 1.5f;
-        batch.draw(knobTexture,
+        float knobWidth = knobRegion.getRegionWidth() * 1.5f;
+        float knobHeight = knobRegion.getRegionHeight() * 1.5f;
+        batch.draw(knobRegion,
             knobPosition.x - knobWidth / 2f,
             knobPosition.y - knobHeight / 2f,
             knobWidth, knobHeight);
@@ -89,15 +91,10 @@ public class Joystick {
         return Vector2.dst(x, y, basePosition.x, basePosition.y) <= radius * 1.5f;
     }
     public void setPosition(float x, float y) {
-        basePosition.set(x + baseTexture.getWidth()/2f, y + baseTexture.getHeight()/2f);
+        basePosition.set(x + baseRegion.getRegionWidth()/2f, y + baseRegion.getRegionHeight()/2f);
         knobPosition.set(basePosition);
     }
     public Vector2 getBasePosition() {
         return basePosition;
     }
-
-    public void dispose() {
-        knobTexture.dispose();
-        baseTexture.dispose();
-    }
 }
@@ -5,6 +5,7 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -19,8 +20,8 @@ public class LevelsScreen implements Screen {
     private final MyGames game;
     private Stage stage;
     private AssetManager assetManager;
-    private Texture backBtnNormal;
-    private Texture backBtnPressed;
+    private TextureRegion backBtnNormal;
+    private TextureRegion backBtnPressed;
     private Texture forestBtnNormal;
     private Texture dungeonBtnNormal;
     private Texture cloudBtnNormal;
@@ -33,22 +34,20 @@ public class LevelsScreen implements Screen {
     public LevelsScreen(final MyGames game) {
         this.game = game;
         this.assetManager = new AssetManager();
-        batch = new SpriteBatch();
-        stage = new Stage(new ScreenViewport());
+        batch = game.getBatch();
+        stage = new Stage(new ScreenViewport(), batch);
         Gdx.input.setInputProcessor(stage);
     }
 
     @Override
     public void show() {
-        assetManager.load("back01.png", Texture.class);
-        assetManager.load("back02.png", Texture.class);
         assetManager.load("forest1.jpg", Texture.class);
         assetManager.load("dungeon1.jpg", Texture.class);
         assetManager.load("cloudmap.jpg", Texture.class);
         assetManager.finishLoading();
 
-        backBtnNormal = assetManager.get("back01.png", Texture.class);
-        backBtnPressed = assetManager.get("back02.png", Texture.class);
+        backBtnNormal = game.getAtlases().menus("back01");
+        backBtnPressed = game.getAtlases().menus("back02");
         forestBtnNormal = assetManager.get("forest1.jpg", Texture.class);
         dungeonBtnNormal = assetManager.get("dungeon1.jpg", Texture.class);
         cloudBtnNormal = assetManager.get("cloudmap.jpg", Texture.class);
@@ -60,7 +59,7 @@ public class LevelsScreen implements Screen {
         ImageButton cloudButton = createLevelButton(cloudBtnNormal, new CloudScreen(game));
 
         float dungeonWidth = dungeonBtnNormal.getWidth() * LEVEL_BUTTON_SCALE;
-        float backWidth = backBtnNormal.getWidth() * BACK_BUTTON_SCALE;
+        float backWidth = backBtnNormal.getRegionWidth() * BACK_BUTTON_SCALE;
         float offsetX = (dungeonWidth - backWidth) / 2;
 
         Table mainTable = new Table();
@@ -84,7 +83,7 @@ public class LevelsScreen implements Screen {
         Table backTable = new Table();
         backTable.add().width(offsetX);
         backTable.add(backButton)
-            .size(backWidth, backBtnNormal.getHeight() * BACK_BUTTON_SCALE)
+            .size(backWidth, backBtnNormal.getRegionHeight() * BACK_BUTTON_SCALE)
             .padTop(20);
 
         mainTable.add(levelsTable).row();
@@ -152,8 +151,6 @@ public class LevelsScreen implements Screen {
 
     @Override
     public void hide() {
-        assetManager.unload("back01.png");
-        assetManager.unload("back02.png");
         assetManager.unload("forest1.jpg");
         assetManager.unload("dungeon1.jpg");
         assetManager.unload("cloudmap.jpg");
@@ -163,7 +160,6 @@ public class LevelsScreen implements Screen {
     public void dispose() {
         stage.dispose();
         assetManager.dispose();
-        batch.dispose();
         if (backgroundTexture != null) backgroundTexture.dispose();
     }
 }
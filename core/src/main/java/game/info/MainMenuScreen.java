@@ -4,6 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -19,17 +20,17 @@ public class MainMenuScreen implements Screen {
     private Stage stage;
     private Texture backgroundTexture;
     private SpriteBatch batch;
-    private Texture playBtnNormal;
-    private Texture playBtnPressed;
-    private Texture optionBtnNormal;
-    private Texture optionBtnPressed;
+    private TextureRegion playBtnNormal;
+    private TextureRegion playBtnPressed;
+    private TextureRegion optionBtnNormal;
+    private TextureRegion optionBtnPressed;
 
     public MainMenuScreen(final MyGames game) {
 
         this.game = game;
-        stage = new Stage(new ScreenViewport());
+        batch = game.getBatch();
+        stage = new Stage(new ScreenViewport(), batch);
         Gdx.input.setInputProcessor(stage);
-        batch = new SpriteBatch();
 
         loadTextures();
         createUI();
@@ -38,10 +39,10 @@ public class MainMenuScreen implements Screen {
     private void loadTextures() {
         try {
             backgroundTexture = new Texture(Gdx.files.internal("space1.png"));
-            playBtnNormal = new Texture(Gdx.files.internal("play01.png"));
-            playBtnPressed = new Texture(Gdx.files.internal("play02.png"));
-            optionBtnNormal = new Texture(Gdx.files.internal("option01.png"));
-            optionBtnPressed = new Texture(Gdx.files.internal("option02.png"));
+            playBtnNormal = game.getAtlases().menus("play01");
+            playBtnPressed = game.getAtlases().menus("play02");
+            optionBtnNormal = game.getAtlases().menus("option01");
+            optionBtnPressed = game.getAtlases().menus("option02");
         } catch (Exception e) {
             Gdx.app.error("MainMenuScreen", "Ошибка при загрузке текстур", e);
         }
@@ -63,10 +64,10 @@ public class MainMenuScreen implements Screen {
 
         float buttonScale = 1f;
         if (playBtnNormal != null) {
-            playButton.setSize(playBtnNormal.getWidth() * buttonScale, playBtnNormal.getHeight() * buttonScale);
+            playButton.setSize(playBtnNormal.getRegionWidth() * buttonScale, playBtnNormal.getRegionHeight() * buttonScale);
         }
         if (optionBtnNormal != null) {
-            optionButton.setSize(optionBtnNormal.getWidth() * buttonScale, optionBtnNormal.getHeight() * buttonScale);
+            optionButton.setSize(optionBtnNormal.getRegionWidth() * buttonScale, optionBtnNormal.getRegionHeight() * buttonScale);
         }
 
         playButton.addListener(new ChangeListener() {
@@ -145,9 +146,5 @@ public class MainMenuScreen implements Screen {
     public void dispose() {
         stage.dispose();
         if (backgroundTexture != null) backgroundTexture.dispose();
-        if (playBtnNormal != null) playBtnNormal.dispose();
-        if (playBtnPressed != null) playBtnPressed.dispose();
-        if (optionBtnNormal != null) optionBtnNormal.dispose();
-        if (optionBtnPressed != null) optionBtnPressed.dispose();
     }
 }
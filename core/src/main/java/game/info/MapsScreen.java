@@ -5,6 +5,7 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -24,10 +25,10 @@ public class MapsScreen implements Screen {
 
     private Texture background;
     private Texture backgroundTexture;
-    private Texture backBtnNormal, backBtnPressed;
-    private Texture yesBtnNormal, yesBtnPressed;
+    private TextureRegion backBtnNormal, backBtnPressed;
+    private TextureRegion yesBtnNormal, yesBtnPressed;
     private Texture island1Btn, islandSpaceBtn, chinaBtn, houseBtn;
-    private Texture diamondTexture, spellTexture;
+    private TextureRegion diamondRegion, spellRegion;
 
     private ImageButton backButton, yesButton;
     private ImageButton island1Button, islandSpaceButton, chinaButton, houseButton;
@@ -55,24 +56,24 @@ public class MapsScreen implements Screen {
 
     @Override
     public void show() {
-        stage = new Stage(new ScreenViewport());
+        batch = game.getBatch();
+        stage = new Stage(new ScreenViewport(), batch);
         Gdx.input.setInputProcessor(stage);
-        batch = new SpriteBatch();
 
         game.playDefaultMusic();
         backgroundTexture = new Texture(Gdx.files.internal("space1.png"));
 
         background = new Texture(Gdx.files.internal("space1.png"));
-        backBtnNormal = new Texture(Gdx.files.internal("back01.png"));
-        backBtnPressed = new Texture(Gdx.files.internal("back02.png"));
-        yesBtnNormal = new Texture(Gdx.files.internal("yes01.png"));
-        yesBtnPressed = new Texture(Gdx.files.internal("yes02.png"));
+        backBtnNormal = game.getAtlases().shop("back01");
+        backBtnPressed = game.getAtlases().shop("back02");
+        yesBtnNormal = game.getAtlases().shop("yes01");
+        yesBtnPressed = game.getAtlases().shop("yes02");
         island1Btn = new Texture(Gdx.files.internal("iland1.jpg"));
         islandSpaceBtn = new Texture(Gdx.files.internal("ilandspace.jpg"));
         chinaBtn = new Texture(Gdx.files.internal("chinamap.jpg"));
         houseBtn = new Texture(Gdx.files.internal("house.jpg"));
-        diamondTexture = new Texture(Gdx.files.internal("stone.png"));
-        spellTexture = new Texture(Gdx.files.internal("spell.png"));
+        diamondRegion = game.getAtlases().shop("stone");
+        spellRegion = game.getAtlases().shop("spell");
 
         font = new BitmapFont();
         font.getData().setScale(3f);
@@ -125,8 +126,8 @@ public class MapsScreen implements Screen {
         chinaButton.setSize(islandWidth, islandHeight);
         houseButton.setSize(islandWidth, islandHeight);
 
-        float controlButtonWidth = backBtnNormal.getWidth() * BUTTON_SCALE;
-        float controlButtonHeight = backBtnNormal.getHeight() * BUTTON_SCALE;
+        float controlButtonWidth = backBtnNormal.getRegionWidth() * BUTTON_SCALE;
+        float controlButtonHeight = backBtnNormal.getRegionHeight() * BUTTON_SCALE;
         backButton.setSize(controlButtonWidth, controlButtonHeight);
         yesButton.setSize(controlButtonWidth, controlButtonHeight);
 
@@ -136,10 +137,10 @@ public class MapsScreen implements Screen {
         chinaPriceLabel = new Label(String.valueOf(MyGames.CHINA_MAP_SPELL_PRICE), labelStyle);
         housePriceLabel = new Label(String.valueOf(HOUSE_PRICE), labelStyle);
 
-        Table islandSpaceTable = createMapTable(islandSpaceButton, islandSpacePriceLabel, diamondTexture);
-        Table island1Table = createMapTable(island1Button, island1PriceLabel, diamondTexture);
-        Table houseTable = createMapTable(houseButton, housePriceLabel, spellTexture);
-        Table chinaTable = createMapTable(chinaButton, chinaPriceLabel, spellTexture);
+        Table islandSpaceTable = createMapTable(islandSpaceButton, islandSpacePriceLabel, diamondRegion);
+        Table island1Table = createMapTable(island1Button, island1PriceLabel, diamondRegion);
+        Table houseTable = createMapTable(houseButton, housePriceLabel, spellRegion);
+        Table chinaTable = createMapTable(chinaButton, chinaPriceLabel, spellRegion);
 
         Table mapsTable = new Table();
         mapsTable.padTop(100);
@@ -169,7 +170,7 @@ public class MapsScreen implements Screen {
         float currentX = Gdx.graphics.getWidth() - PADDING_RIGHT;
         float yPos = Gdx.graphics.getHeight() - PADDING_TOP - RESOURCE_SIZE;
 
-        ImageButton spellIcon = new ImageButton(new TextureRegionDrawable(spellTexture));
+        ImageButton spellIcon = new ImageButton(new TextureRegionDrawable(spellRegion));
         spellIcon.setSize(RESOURCE_SIZE, RESOURCE_SIZE);
         float spellsIconX = currentX - RESOURCE_SIZE;
         float spellsTextX = spellsIconX - TEXT_ICON_SPACING - spellsLayout.width;
@@ -177,7 +178,7 @@ public class MapsScreen implements Screen {
             .padRight(TEXT_ICON_SPACING).padTop(PADDING_TOP);
         resourcesTable.add(spellIcon).size(RESOURCE_SIZE).padRight(PADDING_RIGHT).padTop(PADDING_TOP);
 
-        ImageButton diamondIcon = new ImageButton(new TextureRegionDrawable(diamondTexture));
+        ImageButton diamondIcon = new ImageButton(new TextureRegionDrawable(diamondRegion));
         diamondIcon.setSize(RESOURCE_SIZE, RESOURCE_SIZE);
         currentX = spellsTextX - PADDING_RIGHT;
         float diamondsIconX = currentX - RESOURCE_SIZE;
@@ -195,13 +196,13 @@ public class MapsScreen implements Screen {
         setupListeners();
     }
 
-    private Table createMapTable(ImageButton mapButton, Label priceLabel, Texture currencyTexture) {
+    private Table createMapTable(ImageButton mapButton, Label priceLabel, TextureRegion currencyRegion) {
         Table table = new Table();
         table.add(mapButton).size(mapButton.getWidth(), mapButton.getHeight()).row();
 
         Table priceTable = new Table();
         priceTable.add(priceLabel).padRight(10);
-        ImageButton currencyIcon = new ImageButton(new TextureRegionDrawable(currencyTexture));
+        ImageButton currencyIcon = new ImageButton(new TextureRegionDrawable(currencyRegion));
         currencyIcon.setSize(30, 30);
         priceTable.add(currencyIcon).size(40);
 
@@ -362,17 +363,10 @@ public class MapsScreen implements Screen {
         isDisposed = true;
         if (stage != null) stage.dispose();
         if (background != null) background.dispose();
-        if (backBtnNormal != null) backBtnNormal.dispose();
-        if (backBtnPressed != null) backBtnPressed.dispose();
-        if (batch != null) batch.dispose();
-        if (yesBtnNormal != null) yesBtnNormal.dispose();
-        if (yesBtnPressed != null) yesBtnPressed.dispose();
         if (island1Btn != null) island1Btn.dispose();
         if (islandSpaceBtn != null) islandSpaceBtn.dispose();
         if (chinaBtn != null) chinaBtn.dispose();
         if (houseBtn != null) houseBtn.dispose();
-        if (diamondTexture != null) diamondTexture.dispose();
-        if (spellTexture != null) spellTexture.dispose();
         if (font != null) font.dispose();
     }
 
@@ -0,0 +1,42 @@
+package game.info;
+
+public class MonsterArchetype {
+    public static final MonsterArchetype NORMAL = new MonsterArchetype(0, 1, 80f, 1, 1f);
+    public static final MonsterArchetype BRUTE = new MonsterArchetype(1, 4, 70f, 3, 1.4f);
+    public static final MonsterArchetype ELITE = new MonsterArchetype(2, 16, 95f, 8, 1.8f);
+    public static final MonsterArchetype[] ALL = {NORMAL, BRUTE, ELITE};
+
+    private final int index;
+    private final int threat;
+    private final float speed;
+    private final int health;
+    private final float scale;
+
+    private MonsterArchetype(int index, int threat, float speed, int health, float scale) {
+        this.index = index;
+        this.threat = threat;
+        this.speed = speed;
+        this.health = health;
+        this.scale = scale;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getThreat() {
+        return threat;
+    }
+
+    public float getSpeed() {
+        return speed;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public float getScale() {
+        return scale;
+    }
+}
@@ -0,0 +1,205 @@
+package game.info;
+
+import java.util.Arrays;
+
+public class MonsterStore {
+    public static final byte WALKING = 0;
+    public static final byte FADING = 1;
+    private static final float STEER_EPSILON = 1e-6f;
+    // Off-screen monsters re-read the flow field once every this many ticks, staggered by index.
+    private static final int OFFSCREEN_STEER_INTERVAL = 4;
+
+    public float[] x;
+    public float[] y;
+    public float[] prevX;
+    public float[] prevY;
+    public float[] speed;
+    public float[] fadeTimer;
+    public float[] animTimer;
+    public byte[] state;
+    public byte[] archetype;
+    public int[] health;
+    public int size;
+    private float[] steerX;
+    private float[] steerY;
+    private float[] visible;
+    private float viewMinX = -Float.MAX_VALUE, viewMinY = -Float.MAX_VALUE;
+    private float viewMaxX = Float.MAX_VALUE, viewMaxY = Float.MAX_VALUE;
+    private int steerTick;
+    private int offscreenCount;
+
+    public MonsterStore() {
+        this(64);
+    }
+
+    public MonsterStore(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        prevX = new float[capacity];
+        prevY = new float[capacity];
+        speed = new float[capacity];
+        fadeTimer = new float[capacity];
+        animTimer = new float[capacity];
+        state = new byte[capacity];
+        archetype = new byte[capacity];
+        health = new int[capacity];
+        steerX = new float[capacity];
+        steerY = new float[capacity];
+        visible = new float[capacity];
+    }
+
+    public int add(float x, float y, MonsterArchetype type) {
+        int i = add(x, y, type.getSpeed());
+        archetype[i] = (byte) type.getIndex();
+        health[i] = type.getHealth();
+        return i;
+    }
+
+    public int add(float x, float y, float speed) {
+        if (size == this.x.length) resize(Math.max(8, (int) (size * 1.75f)));
+        int i = size++;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.prevX[i] = x;
+        this.prevY[i] = y;
+        this.speed[i] = speed;
+        this.fadeTimer[i] = 0;
+        this.animTimer[i] = 0;
+        this.state[i] = WALKING;
+        this.archetype[i] = 0;
+        this.health[i] = 1;
+        this.steerX[i] = 0;
+        this.steerY[i] = 0;
+        return i;
+    }
+
+    public void update(FlowField field, float targetX, float targetY, float delta) {
+        steer(field, targetX, targetY, delta);
+        expireFading(delta);
+    }
+
+    // Monsters outside this rectangle are steered at a lower rate and do not animate.
+    public void setView(float minX, float minY, float maxX, float maxY) {
+        viewMinX = minX;
+        viewMinY = minY;
+        viewMaxX = maxX;
+        viewMaxY = maxY;
+    }
+
+    // Follows the flow field where it has a direction, and heads straight for the target
+    // inside the target tile or where the field cannot reach.
+    public void steer(FlowField field, float targetX, float targetY, float delta) {
+        steerTick++;
+        offscreenCount = 0;
+        for (int i = 0; i < size; i++) {
+            boolean onScreen = x[i] >= viewMinX && x[i] <= viewMaxX && y[i] >= viewMinY && y[i] <= viewMaxY;
+            visible[i] = onScreen ? 1 : 0;
+            if (!onScreen) {
+                offscreenCount++;
+                boolean steering = steerX[i] != 0 || steerY[i] != 0;
+                if (steering && (i + steerTick) % OFFSCREEN_STEER_INTERVAL != 0) continue;
+            }
+
+            int cell = field.cellAt(x[i], y[i]);
+            if (field.hasDirection(cell)) {
+                steerX[i] = field.getDirectionX(cell);
+                steerY[i] = field.getDirectionY(cell);
+            } else {
+                float dx = targetX - x[i];
+                float dy = targetY - y[i];
+                float inverseLength = 1f / (float) Math.sqrt(dx * dx + dy * dy + STEER_EPSILON);
+                steerX[i] = dx * inverseLength;
+                steerY[i] = dy * inverseLength;
+            }
+        }
+
+        // Moves every walking monster along its direction in one branch-free pass over the
+        // primitive arrays, so HotSpot can vectorize it. Fading monsters get a zero step.
+        float[] x = this.x;
+        float[] y = this.y;
+        float[] speed = this.speed;
+        float[] animTimer = this.animTimer;
+        float[] steerX = this.steerX;
+        float[] steerY = this.steerY;
+        float[] visible = this.visible;
+        byte[] state = this.state;
+        for (int i = 0; i < size; i++) {
+            float walking = 1 - state[i];
+            float step = walking * speed[i] * delta;
+            x[i] += steerX[i] * step;
+            y[i] += steerY[i] * step;
+            animTimer[i] += walking * visible[i] * delta;
+        }
+    }
+
+    private void expireFading(float delta) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (state[i] != FADING) continue;
+            fadeTimer[i] -= delta;
+            if (fadeTimer[i] <= 0) {
+                removeIndex(i);
+            }
+        }
+    }
+
+    public void savePrevious() {
+        System.arraycopy(x, 0, prevX, 0, size);
+        System.arraycopy(y, 0, prevY, 0, size);
+    }
+
+    public void startFading(int i, float duration) {
+        state[i] = FADING;
+        fadeTimer[i] = duration;
+    }
+
+    public boolean isFading(int i) {
+        return state[i] == FADING;
+    }
+
+    public int getOffscreenCount() {
+        return offscreenCount;
+    }
+
+    public MonsterArchetype getArchetype(int i) {
+        return MonsterArchetype.ALL[archetype[i]];
+    }
+
+    public void removeIndex(int i) {
+        int last = --size;
+        if (i != last) {
+            x[i] = x[last];
+            y[i] = y[last];
+            prevX[i] = prevX[last];
+            prevY[i] = prevY[last];
+            speed[i] = speed[last];
+            fadeTimer[i] = fadeTimer[last];
+            animTimer[i] = animTimer[last];
+            state[i] = state[last];
+            archetype[i] = archetype[last];
+            health[i] = health[last];
+            steerX[i] = steerX[last];
+            steerY[i] = steerY[last];
+            visible[i] = visible[last];
+        }
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private void resize(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        fadeTimer = Arrays.copyOf(fadeTimer, capacity);
+        animTimer = Arrays.copyOf(animTimer, capacity);
+        state = Arrays.copyOf(state, capacity);
+        archetype = Arrays.copyOf(archetype, capacity);
+        health = Arrays.copyOf(health, capacity);
+        steerX = Arrays.copyOf(steerX, capacity);
+        steerY = Arrays.copyOf(steerY, capacity);
+        visible = Arrays.copyOf(visible, capacity);
+    }
+}
@@ -1,15 +1,15 @@
 package game.info;
 
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.utils.viewport.FitViewport;
-import com.badlogic.gdx.utils.viewport.Viewport;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.utils.Array;
 
@@ -18,10 +18,13 @@ import java.util.HashSet;
 import java.util.Set;
 
 public class MyGames extends ApplicationAdapter {
+    // The one batch every screen and Scene2D stage draws with, so switching screens never
+    // builds another mesh and shader.
     private SpriteBatch batch;
+    private final Matrix4 screenProjection = new Matrix4();
+    private final GameAtlases atlases = new GameAtlases();
+    private final GameAnimations animations = new GameAnimations(atlases);
 
-    private OrthographicCamera camera;
-    private Viewport viewport;
     private Screen currentScreen;
 
     public static final int WIDTH = 320;
@@ -63,6 +66,9 @@ public class MyGames extends ApplicationAdapter {
     private Sound bombSound;
     private Sound knifeSound;
     private boolean isHousePurchased = false;
+    private boolean threadedSimulation = false;
+    private boolean box2dBroadPhase = false;
+    private boolean recordArenaRuns = false;
     // В класс MyGames добавьте:
     private Sound spellCollectSound;
     private Sound monsterDeathSound;
@@ -215,6 +221,14 @@ public class MyGames extends ApplicationAdapter {
         tempKnifeUpgradeActive = false;
     }
 
+    public GameAtlases getAtlases() {
+        return atlases;
+    }
+
+    public GameAnimations getAnimations() {
+        return animations;
+    }
+
     public static MyGames getInstance() {
         return instance;
     }
@@ -388,6 +402,39 @@ public class MyGames extends ApplicationAdapter {
         return musicEnabled;
     }
 
+    // Developer options are only offered in debug runs: the desktop launcher started with
+    // -Dspaceshards.debug=true (./gradlew lwjgl3:run -Pspaceshards.debug), which logs at debug level.
+    public boolean isDeveloperMode() {
+        return Gdx.app.getLogLevel() == Application.LOG_DEBUG;
+    }
+
+    public boolean isThreadedSimulation() {
+        return threadedSimulation;
+    }
+
+    public void setThreadedSimulation(boolean threadedSimulation) {
+        this.threadedSimulation = threadedSimulation;
+        savePreferences();
+    }
+
+    public boolean isBox2dBroadPhase() {
+        return box2dBroadPhase;
+    }
+
+    public void setBox2dBroadPhase(boolean box2dBroadPhase) {
+        this.box2dBroadPhase = box2dBroadPhase;
+        savePreferences();
+    }
+
+    public boolean isRecordingArenaRuns() {
+        return recordArenaRuns && isDeveloperMode();
+    }
+
+    public void setRecordingArenaRuns(boolean recordArenaRuns) {
+        this.recordArenaRuns = recordArenaRuns;
+        savePreferences();
+    }
+
     public void toggleMusic() {
         musicEnabled = !musicEnabled;
         if (musicEnabled) {
@@ -466,11 +513,8 @@ public class MyGames extends ApplicationAdapter {
 
     @Override
     public void create() {
+        if (Boolean.getBoolean("spaceshards.debug")) Gdx.app.setLogLevel(Application.LOG_DEBUG);
         batch = new SpriteBatch();
-        camera = new OrthographicCamera();
-        viewport = new FitViewport(WIDTH, HEIGHT, camera);
-        camera.setToOrtho(false, WIDTH, HEIGHT);
-        camera.update();
         clickSound = Gdx.audio.newSound(Gdx.files.internal("click.wav"));
         bombSound = Gdx.audio.newSound(Gdx.files.internal("laser_gun.wav"));
         knifeSound = Gdx.audio.newSound(Gdx.files.internal("Blade.wav"));
@@ -623,6 +667,9 @@ public class MyGames extends ApplicationAdapter {
         volume = prefs.getFloat("volume", 100.0f);
         musicEnabled = prefs.getBoolean("musicEnabled", true);
         lastLevelWasForest = prefs.getBoolean("lastLevelWasForest", false);
+        threadedSimulation = prefs.getBoolean("threadedSimulation", false);
+        box2dBroadPhase = prefs.getBoolean("box2dBroadPhase", false);
+        recordArenaRuns = prefs.getBoolean("recordArenaRuns", false);
 
         currentTrackIndex = prefs.getInteger("lastTrackIndex", 0);
         tempSpeedUpgradeActive = prefs.getBoolean("tempSpeedUpgradeActive", false);
@@ -664,6 +711,9 @@ public class MyGames extends ApplicationAdapter {
         prefs.putBoolean("musicEnabled", musicEnabled);
         prefs.putFloat("volume", volume);
         prefs.putBoolean("lastLevelWasForest", lastLevelWasForest);
+        prefs.putBoolean("threadedSimulation", threadedSimulation);
+        prefs.putBoolean("box2dBroadPhase", box2dBroadPhase);
+        prefs.putBoolean("recordArenaRuns", recordArenaRuns);
 
         prefs.putInteger("lastTrackIndex", currentTrackIndex);
         prefs.putBoolean("tempSpeedUpgradeActive", tempSpeedUpgradeActive);
@@ -693,8 +743,11 @@ public class MyGames extends ApplicationAdapter {
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        camera.update();
-        batch.setProjectionMatrix(camera.combined);
+        // Screens that draw without their own camera expect window pixels and an untinted batch,
+        // whatever the previous frame or screen left behind.
+        screenProjection.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.setProjectionMatrix(screenProjection);
+        batch.setColor(Color.WHITE);
 
         if (currentScreen != null) {
             currentScreen.render(Gdx.graphics.getDeltaTime());
@@ -707,6 +760,7 @@ public class MyGames extends ApplicationAdapter {
     @Override
     public void dispose() {
         batch.dispose();
+        atlases.dispose();
         if (monsterDeathSound != null) monsterDeathSound.dispose();
         if (spellCollectSound != null) spellCollectSound.dispose();
         if (gameOverMusic != null) gameOverMusic.dispose();
@@ -748,7 +802,6 @@ public class MyGames extends ApplicationAdapter {
 
     @Override
     public void resize(int width, int height) {
-        viewport.update(width, height);
         if (currentScreen != null) {
             currentScreen.resize(width, height);
         }
@@ -790,6 +843,10 @@ public class MyGames extends ApplicationAdapter {
             this.currentScreen.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         }
     }
+    public Screen getCurrentScreen() {
+        return currentScreen;
+    }
+
     public SpriteBatch getBatch() {
         return batch;
     }
@@ -16,52 +16,52 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 
 public class PauseScreen implements Screen {
     private final MyGames game;
-    private final ForestScreen gameScreen;
+    private final ArenaScreen gameScreen;
     private Stage stage;
     private Texture background;
     private SpriteBatch batch;
 
-    private Texture replayButtonTexture;
-    private Texture replayButtonPressedTexture;
-    private Texture playButtonTexture;
-    private Texture playButtonPressedTexture;
-    private Texture homeButtonTexture;
-    private Texture homeButtonPressedTexture;
+    private TextureRegion replayButtonRegion;
+    private TextureRegion replayButtonPressedRegion;
+    private TextureRegion playButtonRegion;
+    private TextureRegion playButtonPressedRegion;
+    private TextureRegion homeButtonRegion;
+    private TextureRegion homeButtonPressedRegion;
 
-    public PauseScreen(MyGames game, ForestScreen gameScreen) {
+    public PauseScreen(MyGames game, ArenaScreen gameScreen) {
         this.game = game;
         this.gameScreen = gameScreen;
     }
 
     @Override
     public void show() {
-        batch = new SpriteBatch();
-        stage = new Stage(new ScreenViewport());
+        batch = game.getBatch();
+        stage = new Stage(new ScreenViewport(), batch);
         Gdx.input.setInputProcessor(stage);
 
         background = new Texture(Gdx.files.internal("space1.png"));
-        replayButtonTexture = new Texture(Gdx.files.internal("restart01.png"));
-        replayButtonPressedTexture = new Texture(Gdx.files.internal("restart02.png"));
-        playButtonTexture = new Texture(Gdx.files.internal("play01.png"));
-        playButtonPressedTexture = new Texture(Gdx.files.internal("play02.png"));
-        homeButtonTexture = new Texture(Gdx.files.internal("home01.png"));
-        homeButtonPressedTexture = new Texture(Gdx.files.internal("home02.png"));
+        replayButtonRegion = game.getAtlases().dialogs("restart01");
+        replayButtonPressedRegion = game.getAtlases().dialogs("restart02");
+        playButtonRegion = game.getAtlases().dialogs("play01");
+        playButtonPressedRegion = game.getAtlases().dialogs("play02");
+        homeButtonRegion = game.getAtlases().dialogs("home01");
+        homeButtonPressedRegion = game.getAtlases().dialogs("home02");
 
         createButtons();
     }
 
     private void createButtons() {
         float buttonScale = 0.8f;
-        float buttonWidth = replayButtonTexture.getWidth() * buttonScale;
-        float buttonHeight = replayButtonTexture.getHeight() * buttonScale;
+        float buttonWidth = replayButtonRegion.getRegionWidth() * buttonScale;
+        float buttonHeight = replayButtonRegion.getRegionHeight() * buttonScale;
         float padding = 50f;
         float topMargin = 90f;
         float startY = Gdx.graphics.getHeight() - topMargin - buttonHeight;
         float centerX = Gdx.graphics.getWidth()/2 - buttonWidth/2;
 
         ImageButton.ImageButtonStyle replayStyle = new ImageButton.ImageButtonStyle();
-        replayStyle.up = new TextureRegionDrawable(new TextureRegion(replayButtonTexture));
-        replayStyle.down = new TextureRegionDrawable(new TextureRegion(replayButtonPressedTexture));
+        replayStyle.up = new TextureRegionDrawable(new TextureRegion(replayButtonRegion));
+        replayStyle.down = new TextureRegionDrawable(new TextureRegion(replayButtonPressedRegion));
         ImageButton replayButton = new ImageButton(replayStyle);
         replayButton.setSize(buttonWidth, buttonHeight);
         replayButton.setPosition(centerX, startY);
@@ -69,14 +69,14 @@ public class PauseScreen implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 game.playClickSound();
-                game.setScreen(new ForestScreen(game));
+                game.setScreen(gameScreen != null ? gameScreen.createRestart() : new ForestScreen(game));
 
             }
         });
 
         ImageButton.ImageButtonStyle playStyle = new ImageButton.ImageButtonStyle();
-        playStyle.up = new TextureRegionDrawable(new TextureRegion(playButtonTexture));
-        playStyle.down = new TextureRegionDrawable(new TextureRegion(playButtonPressedTexture));
+        playStyle.up = new TextureRegionDrawable(new TextureRegion(playButtonRegion));
+        playStyle.down = new TextureRegionDrawable(new TextureRegion(playButtonPressedRegion));
         ImageButton playButton = new ImageButton(playStyle);
         playButton.setSize(buttonWidth, buttonHeight);
         playButton.setPosition(centerX, startY - buttonHeight - padding);
@@ -95,8 +95,8 @@ public class PauseScreen implements Screen {
         });
 
         ImageButton.ImageButtonStyle homeStyle = new ImageButton.ImageButtonStyle();
-        homeStyle.up = new TextureRegionDrawable(new TextureRegion(homeButtonTexture));
-        homeStyle.down = new TextureRegionDrawable(new TextureRegion(homeButtonPressedTexture));
+        homeStyle.up = new TextureRegionDrawable(new TextureRegion(homeButtonRegion));
+        homeStyle.down = new TextureRegionDrawable(new TextureRegion(homeButtonPressedRegion));
         ImageButton homeButton = new ImageButton(homeStyle);
         homeButton.setSize(buttonWidth, buttonHeight);
         homeButton.setPosition(centerX, startY - 2*(buttonHeight + padding));
@@ -162,13 +162,6 @@ public class PauseScreen implements Screen {
             stage.dispose();
             stage = null;
         }
-        if (batch != null) batch.dispose();
         if (background != null) background.dispose();
-        if (replayButtonTexture != null) replayButtonTexture.dispose();
-        if (replayButtonPressedTexture != null) replayButtonPressedTexture.dispose();
-        if (playButtonTexture != null) playButtonTexture.dispose();
-        if (playButtonPressedTexture != null) playButtonPressedTexture.dispose();
-        if (homeButtonTexture != null) homeButtonTexture.dispose();
-        if (homeButtonPressedTexture != null) homeButtonPressedTexture.dispose();
     }
 }
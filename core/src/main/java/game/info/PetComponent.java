@@ -0,0 +1,15 @@
+package game.info;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+public class PetComponent implements Component, Pool.Poolable {
+    public float offsetX, offsetY;
+    public boolean facingRight = true;
+
+    @Override
+    public void reset() {
+        offsetX = offsetY = 0;
+        facingRight = true;
+    }
+}
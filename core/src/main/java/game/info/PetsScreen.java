@@ -13,7 +13,6 @@ import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 
 import java.util.HashSet;
@@ -26,11 +25,11 @@ public class PetsScreen implements Screen {
 
     private Texture background;
     private Texture backgroundTexture;
-    private Texture backBtnNormal, backBtnPressed;
-    private Texture yesBtnNormal, yesBtnPressed;
-    private Texture pet1Btn1, pet1Btn2, pet2Btn1, pet2Btn2, pet3Btn1, pet3Btn2;
-    private Texture diamondTexture;
-    private Texture spellTexture;
+    private TextureRegion backBtnNormal, backBtnPressed;
+    private TextureRegion yesBtnNormal, yesBtnPressed;
+    private TextureRegion pet1Btn1, pet2Btn1, pet3Btn1;
+    private TextureRegion diamondRegion;
+    private TextureRegion spellRegion;
 
     private Animation<TextureRegion> pet1Animation;
     private Animation<TextureRegion> pet2Animation;
@@ -55,46 +54,41 @@ public class PetsScreen implements Screen {
     private static final float PET_BUTTON_SCALE = 10f;
     private static final float CONTROL_BUTTON_SCALE = 0.7f;
     private static final float RESOURCE_SIZE = 100f;
-    private static final float ANIMATION_SPEED = 0.2f;
 
     private Set<String> purchasedPets;
-    private Texture noBtnNormal, noBtnPressed;
+    private TextureRegion noBtnNormal, noBtnPressed;
     private ImageButton noButton;
 
     public PetsScreen(final MyGames game) {
         this.game = game;
-        batch = new SpriteBatch();
+        batch = game.getBatch();
     }
 
     @Override
     public void show() {
-        stage = new Stage(new ScreenViewport());
+        stage = new Stage(new ScreenViewport(), batch);
         Gdx.input.setInputProcessor(stage);
 
         game.playDefaultMusic();
 
         background = new Texture(Gdx.files.internal("space1.png"));
         backgroundTexture = new Texture(Gdx.files.internal("space1.png"));
-        backBtnNormal = new Texture(Gdx.files.internal("back01.png"));
-        backBtnPressed = new Texture(Gdx.files.internal("back02.png"));
-        yesBtnNormal = new Texture(Gdx.files.internal("yes01.png"));
-        yesBtnPressed = new Texture(Gdx.files.internal("yes02.png"));
-
-        pet1Btn1 = new Texture(Gdx.files.internal("idle01.png"));
-        pet1Btn2 = new Texture(Gdx.files.internal("idle02.png"));
-        pet2Btn1 = new Texture(Gdx.files.internal("goblin01.png"));
-        pet2Btn2 = new Texture(Gdx.files.internal("goblin02.png"));
-        pet3Btn1 = new Texture(Gdx.files.internal("zombie01.png"));
-        pet3Btn2 = new Texture(Gdx.files.internal("zombie02.png"));
-        noBtnNormal = new Texture(Gdx.files.internal("no01.png"));
-        noBtnPressed = new Texture(Gdx.files.internal("no02.png"));
-
-        diamondTexture = new Texture(Gdx.files.internal("stone.png"));
-        spellTexture = new Texture(Gdx.files.internal("spell.png"));
-
-        pet1Animation = createAnimation(pet1Btn1, pet1Btn2);
-        pet2Animation = createAnimation(pet2Btn1, pet2Btn2);
-        pet3Animation = createAnimation(pet3Btn1, pet3Btn2);
+        backBtnNormal = game.getAtlases().shop("back01");
+        backBtnPressed = game.getAtlases().shop("back02");
+        yesBtnNormal = game.getAtlases().shop("yes01");
+        yesBtnPressed = game.getAtlases().shop("yes02");
+
+        pet1Animation = game.getAnimations().petPreview("pet1");
+        pet2Animation = game.getAnimations().petPreview("pet2");
+        pet3Animation = game.getAnimations().petPreview("pet3");
+        pet1Btn1 = pet1Animation.getKeyFrames()[0];
+        pet2Btn1 = pet2Animation.getKeyFrames()[0];
+        pet3Btn1 = pet3Animation.getKeyFrames()[0];
+        noBtnNormal = game.getAtlases().shop("no01");
+        noBtnPressed = game.getAtlases().shop("no02");
+
+        diamondRegion = game.getAtlases().shop("stone");
+        spellRegion = game.getAtlases().shop("spell");
 
         font = new BitmapFont();
         font.getData().setScale(3f);
@@ -109,13 +103,6 @@ public class PetsScreen implements Screen {
         createUI();
     }
 
-    private Animation<TextureRegion> createAnimation(Texture frame1, Texture frame2) {
-        Array<TextureRegion> frames = new Array<>();
-        frames.add(new TextureRegion(frame1));
-        frames.add(new TextureRegion(frame2));
-        return new Animation<>(ANIMATION_SPEED, frames, Animation.PlayMode.LOOP);
-    }
-
     private void createUI() {
         Table mainTable = new Table();
         mainTable.setFillParent(true);
@@ -137,21 +124,21 @@ public class PetsScreen implements Screen {
 
         backButton = new ImageButton(backStyle);
         backButton.getImage().setScale(CONTROL_BUTTON_SCALE);
-        backButton.setSize(backBtnNormal.getWidth() * CONTROL_BUTTON_SCALE,
-            backBtnNormal.getHeight() * CONTROL_BUTTON_SCALE);
+        backButton.setSize(backBtnNormal.getRegionWidth() * CONTROL_BUTTON_SCALE,
+            backBtnNormal.getRegionHeight() * CONTROL_BUTTON_SCALE);
 
         yesButton = new ImageButton(yesStyle);
         yesButton.getImage().setScale(CONTROL_BUTTON_SCALE);
-        yesButton.setSize(yesBtnNormal.getWidth() * CONTROL_BUTTON_SCALE,
-            yesBtnNormal.getHeight() * CONTROL_BUTTON_SCALE);
+        yesButton.setSize(yesBtnNormal.getRegionWidth() * CONTROL_BUTTON_SCALE,
+            yesBtnNormal.getRegionHeight() * CONTROL_BUTTON_SCALE);
         ImageButton.ImageButtonStyle noStyle = new ImageButton.ImageButtonStyle();
         noStyle.up = new TextureRegionDrawable(noBtnNormal);
         noStyle.down = new TextureRegionDrawable(noBtnPressed);
 
         noButton = new ImageButton(noStyle);
         noButton.getImage().setScale(CONTROL_BUTTON_SCALE);
-        noButton.setSize(noBtnNormal.getWidth() * CONTROL_BUTTON_SCALE,
-            noBtnNormal.getHeight() * CONTROL_BUTTON_SCALE);
+        noButton.setSize(noBtnNormal.getRegionWidth() * CONTROL_BUTTON_SCALE,
+            noBtnNormal.getRegionHeight() * CONTROL_BUTTON_SCALE);
         Label.LabelStyle labelStyle = new Label.LabelStyle(font, Color.WHITE);
         pet1PriceLabel = new Label(String.valueOf(PET1_PRICE), labelStyle);
         pet2PriceLabel = new Label(String.valueOf(PET2_PRICE), labelStyle);
@@ -176,12 +163,12 @@ public class PetsScreen implements Screen {
         resourcesTable.setFillParent(true);
         resourcesTable.top().right();
 
-        ImageButton spellIcon = new ImageButton(new TextureRegionDrawable(spellTexture));
+        ImageButton spellIcon = new ImageButton(new TextureRegionDrawable(spellRegion));
         spellIcon.setSize(RESOURCE_SIZE, RESOURCE_SIZE);
         Label spellsLabel = new Label(String.valueOf(game.spellsCollected),
             new Label.LabelStyle(font, Color.WHITE));
 
-        ImageButton diamondIcon = new ImageButton(new TextureRegionDrawable(diamondTexture));
+        ImageButton diamondIcon = new ImageButton(new TextureRegionDrawable(diamondRegion));
         diamondIcon.setSize(RESOURCE_SIZE, RESOURCE_SIZE);
         Label diamondsLabel = new Label(String.valueOf(game.diamonds),
             new Label.LabelStyle(font, Color.WHITE));
@@ -200,14 +187,14 @@ public class PetsScreen implements Screen {
         setupListeners();
     }
 
-    private ImageButton createPetButton(Texture texture, float scale) {
+    private ImageButton createPetButton(TextureRegion region, float scale) {
         ImageButton.ImageButtonStyle style = new ImageButton.ImageButtonStyle();
-        style.up = new TextureRegionDrawable(texture);
-        style.down = new TextureRegionDrawable(texture);
+        style.up = new TextureRegionDrawable(region);
+        style.down = new TextureRegionDrawable(region);
 
         ImageButton button = new ImageButton(style);
         button.getImage().setScale(scale);
-        button.setSize(texture.getWidth() * scale, texture.getHeight() * scale);
+        button.setSize(region.getRegionWidth() * scale, region.getRegionHeight() * scale);
         return button;
     }
 
@@ -344,18 +331,6 @@ public class PetsScreen implements Screen {
     public void dispose() {
         if (stage != null) stage.dispose();
         if (background != null) background.dispose();
-        if (backBtnNormal != null) backBtnNormal.dispose();
-        if (backBtnPressed != null) backBtnPressed.dispose();
-        if (yesBtnNormal != null) yesBtnNormal.dispose();
-        if (yesBtnPressed != null) yesBtnPressed.dispose();
-        if (pet1Btn1 != null) pet1Btn1.dispose();
-        if (pet1Btn2 != null) pet1Btn2.dispose();
-        if (pet2Btn1 != null) pet2Btn1.dispose();
-        if (pet2Btn2 != null) pet2Btn2.dispose();
-        if (pet3Btn1 != null) pet3Btn1.dispose();
-        if (pet3Btn2 != null) pet3Btn2.dispose();
-        if (diamondTexture != null) diamondTexture.dispose();
-        if (spellTexture != null) spellTexture.dispose();
         if (font != null) font.dispose();
     }
 
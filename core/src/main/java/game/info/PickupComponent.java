@@ -0,0 +1,15 @@
+package game.info;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+public class PickupComponent implements Component, Pool.Poolable {
+    public float bobTime;
+    public float bobSpeed;
+    public float bobHeight;
+
+    @Override
+    public void reset() {
+        bobTime = bobSpeed = bobHeight = 0;
+    }
+}
@@ -1,6 +1,7 @@
 package game.info;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Polygon;
@@ -8,25 +9,30 @@ import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Rectangle;
 
 public class Player {
-    private Texture[] walkTextures;
-    private Texture idleTexture;
+    private final Animation<TextureRegion> walkAnimation;
+    private final TextureRegion idleFrame;
     private final Vector2 position;
+    private final Vector2 previousPosition;
     private final float speed;
     private final Vector2 size;
     private Polygon collisionPolygon;
+    private final Polygon tempPolygon;
+    private final Vector2 newPosition = new Vector2();
+    private final Rectangle bounds = new Rectangle();
     private float animationTimer = 0;
     private boolean isMoving = false;
-    private float frameDuration = 0.2f;
     private boolean isFacingRight = true;
     private Vector2 velocity = new Vector2();
 
-    public Player(Texture idleTexture, Texture[] walkTextures, float x, float y, float speed) {
-        this.idleTexture = idleTexture;
-        this.walkTextures = walkTextures;
+    public Player(TextureRegion idleFrame, Animation<TextureRegion> walkAnimation, float x, float y, float speed) {
+        this.idleFrame = idleFrame;
+        this.walkAnimation = walkAnimation;
         this.position = new Vector2(x, y);
+        this.previousPosition = new Vector2(x, y);
         this.speed = speed;
-        this.size = new Vector2(idleTexture.getWidth(), idleTexture.getHeight());
+        this.size = new Vector2(idleFrame.getRegionWidth(), idleFrame.getRegionHeight());
         collisionPolygon = createCollisionPolygon();
+        tempPolygon = createCollisionPolygon();
     }
 
     private Polygon createCollisionPolygon() {
@@ -52,10 +58,9 @@ public class Player {
 
             animationTimer += delta;
 
-            Vector2 newPosition = new Vector2(position);
+            newPosition.set(position);
             newPosition.mulAdd(direction, speed * delta);
 
-            Polygon tempPolygon = createCollisionPolygon();
             tempPolygon.setPosition(newPosition.x, newPosition.y);
 
             if (islandBounds == null || Intersector.overlapConvexPolygons(tempPolygon, islandBounds)) {
@@ -64,7 +69,6 @@ public class Player {
                 velocity.set(direction).scl(speed);
             } else {
                 newPosition.set(position.x + direction.x * speed * delta, position.y);
-                tempPolygon = createCollisionPolygon();
                 tempPolygon.setPosition(newPosition.x, position.y);
 
                 if (islandBounds == null || Intersector.overlapConvexPolygons(tempPolygon, islandBounds)) {
@@ -73,7 +77,6 @@ public class Player {
                     velocity.set(direction.x, 0).scl(speed);
                 } else {
                     newPosition.set(position.x, position.y + direction.y * speed * delta);
-                    tempPolygon = createCollisionPolygon();
                     tempPolygon.setPosition(position.x, newPosition.y);
                     if (islandBounds == null || Intersector.overlapConvexPolygons(tempPolygon, islandBounds)) {
                         position.y = newPosition.y;
@@ -91,7 +94,7 @@ public class Player {
     }
 
     public Rectangle getBoundingRectangle() {
-        return new Rectangle(
+        return bounds.set(
             position.x - size.x / 2,
             position.y - size.y / 2,
             size.x,
@@ -99,18 +102,52 @@ public class Player {
         );
     }
 
+    public void savePreviousPosition() {
+        previousPosition.set(position);
+    }
+
+    public float getInterpolatedX(float alpha) {
+        return previousPosition.x + (position.x - previousPosition.x) * alpha;
+    }
+
+    public float getInterpolatedY(float alpha) {
+        return previousPosition.y + (position.y - previousPosition.y) * alpha;
+    }
+
     public void draw(SpriteBatch batch) {
-        Texture currentTexture = isMoving ?
-            walkTextures[(int) (animationTimer / frameDuration) % walkTextures.length] :
-            idleTexture;
+        draw(batch, 1f);
+    }
 
-        batch.draw(currentTexture,
-            isFacingRight ? position.x - size.x / 2 : position.x + size.x / 2,
-            position.y - size.y / 2,
-            isFacingRight ? size.x : -size.x,
+    public void draw(SpriteBatch batch, float alpha) {
+        draw(batch, getInterpolatedX(alpha), getInterpolatedY(alpha), getFrameIndex(), isFacingRight);
+    }
+
+    // Only reads the frames, so it is safe to call with state captured from another thread.
+    public void draw(SpriteBatch batch, float x, float y, int frameIndex, boolean facingRight) {
+        TextureRegion currentFrame = frameIndex >= 0 ? walkAnimation.getKeyFrames()[frameIndex] : idleFrame;
+        batch.draw(currentFrame,
+            facingRight ? x - size.x / 2 : x + size.x / 2,
+            y - size.y / 2,
+            facingRight ? size.x : -size.x,
             size.y);
     }
 
+    public int getFrameIndex() {
+        return isMoving ? walkAnimation.getKeyFrameIndex(animationTimer) : -1;
+    }
+
+    public TextureRegion getFrame() {
+        return isMoving ? walkAnimation.getKeyFrame(animationTimer) : idleFrame;
+    }
+
+    public float getWidth() {
+        return size.x;
+    }
+
+    public float getHeight() {
+        return size.y;
+    }
+
     public float getX() {
         return position.x;
     }
@@ -0,0 +1,15 @@
+package game.info;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+// The hero's movement and island clipping stay in Player; the entity carries its position
+// and current frame for the rest of the engine.
+public class PlayerComponent implements Component, Pool.Poolable {
+    public Player player;
+
+    @Override
+    public void reset() {
+        player = null;
+    }
+}
@@ -0,0 +1,20 @@
+package game.info;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+public class PositionComponent implements Component, Pool.Poolable {
+    public float x, y;
+    public float prevX, prevY;
+
+    public PositionComponent set(float x, float y) {
+        this.x = prevX = x;
+        this.y = prevY = y;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        x = y = prevX = prevY = 0;
+    }
+}
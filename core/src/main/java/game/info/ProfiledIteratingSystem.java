@@ -0,0 +1,22 @@
+package game.info;
+
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+public abstract class ProfiledIteratingSystem extends IteratingSystem {
+    private final ArenaMetrics metrics;
+    private final String name;
+
+    public ProfiledIteratingSystem(Family family, int priority, ArenaMetrics metrics) {
+        super(family, priority);
+        this.metrics = metrics;
+        this.name = getClass().getSimpleName();
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        long start = System.nanoTime();
+        super.update(deltaTime);
+        metrics.recordSystemTime(name, System.nanoTime() - start);
+    }
+}
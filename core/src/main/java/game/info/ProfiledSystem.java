@@ -0,0 +1,23 @@
+package game.info;
+
+import com.badlogic.ashley.core.EntitySystem;
+
+public abstract class ProfiledSystem extends EntitySystem {
+    private final ArenaMetrics metrics;
+    private final String name;
+
+    public ProfiledSystem(int priority, ArenaMetrics metrics) {
+        super(priority);
+        this.metrics = metrics;
+        this.name = getClass().getSimpleName();
+    }
+
+    @Override
+    public final void update(float deltaTime) {
+        long start = System.nanoTime();
+        step(deltaTime);
+        metrics.recordSystemTime(name, System.nanoTime() - start);
+    }
+
+    protected abstract void step(float deltaTime);
+}
@@ -0,0 +1,99 @@
+package game.info;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Pool;
+
+public class Projectile implements Pool.Poolable {
+    private static final float BOB_SPEED = 0.5f;
+    private static final float BOB_HEIGHT = 5f;
+
+    private float x, y;
+    private float prevX, prevY;
+    private float xVelocity, yVelocity;
+    private float width, height;
+    private boolean bobbing;
+    private boolean fading = false;
+    private float fadeTimer = 0;
+    private float animationTimer = 0;
+    private final Rectangle bounds = new Rectangle();
+
+    void launch(float x, float y, float xVelocity, float yVelocity, float width, float height, boolean bobbing) {
+        this.x = x;
+        this.y = y;
+        this.prevX = x;
+        this.prevY = y;
+        this.xVelocity = xVelocity;
+        this.yVelocity = yVelocity;
+        this.width = width;
+        this.height = height;
+        this.bobbing = bobbing;
+    }
+
+    public void update(float delta) {
+        animationTimer += delta;
+        if (bobbing) {
+            y += MathUtils.sin(animationTimer * BOB_SPEED) * BOB_HEIGHT * delta;
+        }
+        if (!fading) {
+            x += xVelocity * delta;
+            y += yVelocity * delta;
+        }
+    }
+
+    public void savePrevious() {
+        prevX = x;
+        prevY = y;
+    }
+
+    public float getInterpolatedX(float alpha) {
+        return prevX + (x - prevX) * alpha;
+    }
+
+    public float getInterpolatedY(float alpha) {
+        return prevY + (y - prevY) * alpha;
+    }
+
+    public Rectangle getBoundingRectangle() {
+        return bounds.set(x - width / 2f, y - height / 2f, width, height);
+    }
+
+    public void startFading(float duration) {
+        fading = true;
+        fadeTimer = duration;
+    }
+
+    public boolean isFading() {
+        return fading;
+    }
+
+    public float getFadeTimer() {
+        return fadeTimer;
+    }
+
+    public void setFadeTimer(float fadeTimer) {
+        this.fadeTimer = fadeTimer;
+    }
+
+    public float getAge() {
+        return animationTimer;
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    @Override
+    public void reset() {
+        x = y = 0;
+        prevX = prevY = 0;
+        xVelocity = yVelocity = 0;
+        fading = false;
+        fadeTimer = 0;
+        animationTimer = 0;
+    }
+}
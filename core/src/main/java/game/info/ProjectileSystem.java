@@ -0,0 +1,132 @@
+package game.info;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+public class ProjectileSystem {
+    private final float width;
+    private final float height;
+    private final boolean bobbing;
+    private final int capacity;
+    private final float maxLifetime;
+    private float worldWidth = Float.MAX_VALUE;
+    private float worldHeight = Float.MAX_VALUE;
+    private long launchedCount;
+    private long expiredCount;
+    private long reclaimedCount;
+    private long rejectedCount;
+    private final Array<Projectile> active;
+    private final Pool<Projectile> pool;
+
+    public ProjectileSystem(TextureRegion region, boolean bobbing, int capacity, float maxLifetime) {
+        this.width = region.getRegionWidth();
+        this.height = region.getRegionHeight();
+        this.bobbing = bobbing;
+        this.capacity = capacity;
+        this.maxLifetime = maxLifetime;
+        this.active = new Array<>(false, capacity);
+        this.pool = new Pool<Projectile>(capacity, capacity) {
+            @Override
+            protected Projectile newObject() {
+                return new Projectile();
+            }
+        };
+        pool.fill(capacity);
+    }
+
+    public void setWorldBounds(float width, float height) {
+        this.worldWidth = width;
+        this.worldHeight = height;
+    }
+
+    public Projectile launch(float x, float y, float xVelocity, float yVelocity) {
+        if (active.size >= capacity) {
+            rejectedCount++;
+            return null;
+        }
+        launchedCount++;
+        Projectile projectile = pool.obtain();
+        projectile.launch(x, y, xVelocity, yVelocity, width, height, bobbing);
+        active.add(projectile);
+        return projectile;
+    }
+
+    public void update(float delta) {
+        for (int i = active.size - 1; i >= 0; i--) {
+            Projectile projectile = active.get(i);
+            projectile.update(delta);
+
+            if (projectile.isFading()) {
+                projectile.setFadeTimer(projectile.getFadeTimer() - delta);
+                if (projectile.getFadeTimer() <= 0) {
+                    expiredCount++;
+                    free(i);
+                }
+            } else if (projectile.getAge() > maxLifetime || isOutsideWorld(projectile)) {
+                reclaimedCount++;
+                free(i);
+            }
+        }
+    }
+
+    private boolean isOutsideWorld(Projectile projectile) {
+        float halfWidth = width / 2f;
+        float halfHeight = height / 2f;
+        return projectile.getX() + halfWidth < 0 || projectile.getX() - halfWidth > worldWidth
+            || projectile.getY() + halfHeight < 0 || projectile.getY() - halfHeight > worldHeight;
+    }
+
+    public void savePrevious() {
+        for (int i = 0; i < active.size; i++) {
+            active.get(i).savePrevious();
+        }
+    }
+
+    public void capture(ArenaSnapshot.Layer layer) {
+        layer.clear();
+        for (int i = 0; i < active.size; i++) {
+            Projectile projectile = active.get(i);
+            layer.add(projectile.getInterpolatedX(0), projectile.getInterpolatedY(0),
+                projectile.getX(), projectile.getY(), 0,
+                projectile.isFading() ? projectile.getFadeTimer() : 1f);
+        }
+    }
+
+    public Projectile get(int index) {
+        return active.get(index);
+    }
+
+    public int size() {
+        return active.size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getLaunchedCount() {
+        return launchedCount;
+    }
+
+    public long getExpiredCount() {
+        return expiredCount;
+    }
+
+    public long getReclaimedCount() {
+        return reclaimedCount;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public void clear() {
+        pool.freeAll(active);
+        active.clear();
+    }
+
+    private void free(int index) {
+        pool.free(active.removeIndex(index));
+    }
+}
@@ -0,0 +1,70 @@
+package game.info;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+// The diamonds and spells counter in the top right corner. The glyph layouts and positions are
+// only rebuilt when a count or the screen size changes, so drawing an unchanged counter
+// allocates nothing.
+public class ResourceCounter {
+    private static final float RESOURCE_SIZE = 100f;
+    private static final float PADDING_RIGHT = 15f;
+    private static final float PADDING_TOP = 15f;
+    private static final float TEXT_ICON_SPACING = 5f;
+
+    private final BitmapFont font;
+    private final TextureRegion diamondRegion;
+    private final TextureRegion spellRegion;
+    private final GlyphLayout diamondsLayout = new GlyphLayout();
+    private final GlyphLayout spellsLayout = new GlyphLayout();
+
+    private int diamonds = -1;
+    private int spells = -1;
+    private float screenWidth = -1;
+    private float screenHeight = -1;
+    private float iconY;
+    private float diamondsIconX, diamondsTextX, diamondsTextY;
+    private float spellsIconX, spellsTextX, spellsTextY;
+    private int layoutCount;
+
+    public ResourceCounter(BitmapFont font, TextureRegion diamondRegion, TextureRegion spellRegion) {
+        this.font = font;
+        this.diamondRegion = diamondRegion;
+        this.spellRegion = spellRegion;
+    }
+
+    public void draw(Batch batch, int diamonds, int spells, float screenWidth, float screenHeight) {
+        if (diamonds != this.diamonds || spells != this.spells
+            || screenWidth != this.screenWidth || screenHeight != this.screenHeight) {
+            layout(diamonds, spells, screenWidth, screenHeight);
+        }
+        batch.draw(diamondRegion, diamondsIconX, iconY, RESOURCE_SIZE, RESOURCE_SIZE);
+        font.draw(batch, diamondsLayout, diamondsTextX, diamondsTextY);
+        batch.draw(spellRegion, spellsIconX, iconY, RESOURCE_SIZE, RESOURCE_SIZE);
+        font.draw(batch, spellsLayout, spellsTextX, spellsTextY);
+    }
+
+    public int getLayoutCount() {
+        return layoutCount;
+    }
+
+    private void layout(int diamonds, int spells, float screenWidth, float screenHeight) {
+        layoutCount++;
+        if (diamonds != this.diamonds) diamondsLayout.setText(font, String.valueOf(diamonds));
+        if (spells != this.spells) spellsLayout.setText(font, String.valueOf(spells));
+        this.diamonds = diamonds;
+        this.spells = spells;
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+
+        iconY = screenHeight - PADDING_TOP - RESOURCE_SIZE;
+        diamondsIconX = screenWidth - PADDING_RIGHT - RESOURCE_SIZE;
+        diamondsTextX = diamondsIconX - TEXT_ICON_SPACING - diamondsLayout.width;
+        diamondsTextY = iconY + RESOURCE_SIZE / 2 + diamondsLayout.height / 2;
+        spellsIconX = diamondsTextX - PADDING_RIGHT - RESOURCE_SIZE;
+        spellsTextX = spellsIconX - TEXT_ICON_SPACING - spellsLayout.width;
+        spellsTextY = iconY + RESOURCE_SIZE / 2 + spellsLayout.height / 2;
+    }
+}
@@ -6,6 +6,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
@@ -31,16 +32,16 @@ public class RestartScreen implements Screen {
     // Кнопки
     private ImageButton restartButton;
     private ImageButton backButton;
-    private Texture restartBtnNormal;
-    private Texture restartBtnPressed;
-    private Texture backBtnNormal;
-    private Texture backBtnPressed;
+    private TextureRegion restartBtnNormal;
+    private TextureRegion restartBtnPressed;
+    private TextureRegion backBtnNormal;
+    private TextureRegion backBtnPressed;
 
     public RestartScreen(final MyGames game) {
         this.game = game;
         camera = new OrthographicCamera();
         viewport = new ScreenViewport(camera);
-        batch = new SpriteBatch();
+        batch = game.getBatch();
         stage = new Stage(viewport, batch);
         Gdx.input.setInputProcessor(stage);
 
@@ -54,10 +55,10 @@ public class RestartScreen implements Screen {
     }
 
     private void loadButtons() {
-        restartBtnNormal = new Texture(Gdx.files.internal("restart01.png"));
-        restartBtnPressed = new Texture(Gdx.files.internal("restart02.png"));
-        backBtnNormal = new Texture(Gdx.files.internal("back01.png"));
-        backBtnPressed = new Texture(Gdx.files.internal("back02.png"));
+        restartBtnNormal = game.getAtlases().menus("restart01");
+        restartBtnPressed = game.getAtlases().menus("restart02");
+        backBtnNormal = game.getAtlases().menus("back01");
+        backBtnPressed = game.getAtlases().menus("back02");
     }
 
     private void createUI() {
@@ -73,8 +74,8 @@ public class RestartScreen implements Screen {
 
         restartButton = new ImageButton(restartStyle);
         restartButton.setSize(
-            restartBtnNormal.getWidth() * scale,
-            restartBtnNormal.getHeight() * scale
+            restartBtnNormal.getRegionWidth() * scale,
+            restartBtnNormal.getRegionHeight() * scale
         );
 
         backButton = new ImageButton(backStyle);
@@ -147,14 +148,9 @@ public class RestartScreen implements Screen {
 
     @Override
     public void dispose() {
-        batch.dispose();
         stage.dispose();
         backgroundTexture.dispose();
         font.dispose();
-        restartBtnNormal.dispose();
-        restartBtnPressed.dispose();
-        backBtnNormal.dispose();
-        backBtnPressed.dispose();
     }
 
     @Override public void show() { game.playDefaultMusic();}
@@ -2,15 +2,22 @@ package game.info;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
+import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
@@ -22,24 +29,26 @@ public class SettingsScreen implements Screen {
     private Stage stage;
 
     // Textures for buttons
-    private Texture restartBtnNormal;
-    private Texture restartBtnPressed;
-    private Texture musicBtnNormal;
-    private Texture musicBtnPressed;
-    private Texture backBtnNormal;
-    private Texture backBtnPressed;
+    private TextureRegion restartBtnNormal;
+    private TextureRegion restartBtnPressed;
+    private TextureRegion musicBtnNormal;
+    private TextureRegion musicBtnPressed;
+    private TextureRegion backBtnNormal;
+    private TextureRegion backBtnPressed;
     private Texture backgroundTexture;
+    private BitmapFont font;
 
 
     private ImageButton restartButton;
     private ImageButton musicButton;
     private ImageButton backButton;
+    private Label developerLabel;
 
     public SettingsScreen(final MyGames game) {
         this.game = game;
         camera = new OrthographicCamera();
         viewport = new ScreenViewport(camera);
-        batch = new SpriteBatch();
+        batch = game.getBatch();
         stage = new Stage(viewport, batch);
         Gdx.input.setInputProcessor(stage);
 
@@ -50,13 +59,16 @@ public class SettingsScreen implements Screen {
 
 
     private void loadAssets() {
-        restartBtnNormal = new Texture(Gdx.files.internal("restart01.png"));
-        restartBtnPressed = new Texture(Gdx.files.internal("restart02.png"));
-        musicBtnNormal = new Texture(Gdx.files.internal("music01.png"));
-        musicBtnPressed = new Texture(Gdx.files.internal("music02.png"));
-        backBtnNormal = new Texture(Gdx.files.internal("back01.png"));
-        backBtnPressed = new Texture(Gdx.files.internal("back02.png"));
+        restartBtnNormal = game.getAtlases().menus("restart01");
+        restartBtnPressed = game.getAtlases().menus("restart02");
+        musicBtnNormal = game.getAtlases().menus("music01");
+        musicBtnPressed = game.getAtlases().menus("music02");
+        backBtnNormal = game.getAtlases().menus("back01");
+        backBtnPressed = game.getAtlases().menus("back02");
         backgroundTexture = new Texture(Gdx.files.internal("space1.png"));
+        font = new BitmapFont();
+        font.getData().setScale(4f);
+        font.setColor(Color.WHITE);
     }
 
     private void createUI() {
@@ -99,6 +111,7 @@ public class SettingsScreen implements Screen {
         musicButton.setPosition(centerX + 20, topRowY);
         backButton.setPosition(centerX - backButton.getWidth() / 2, bottomRowY);
 
+
         // Добавление обработчиков событий (остается без изменений)
         restartButton.addListener(new ChangeListener() {
             @Override
@@ -129,6 +142,24 @@ public class SettingsScreen implements Screen {
         stage.addActor(restartButton);
         stage.addActor(musicButton);
         stage.addActor(backButton);
+
+        // Arena engine options, between the two rows, in debug runs only
+        if (game.isDeveloperMode()) {
+            Label.LabelStyle labelStyle = new Label.LabelStyle();
+            labelStyle.font = font;
+            developerLabel = new Label("DEVELOPER", labelStyle);
+            developerLabel.setAlignment(Align.center);
+            developerLabel.setSize(screenWidth, 100);
+            developerLabel.setPosition(0, (topRowY + bottomRowY + backButton.getHeight()) / 2f - 50);
+            developerLabel.addListener(new ClickListener() {
+                @Override
+                public void clicked(InputEvent event, float x, float y) {
+                    game.playClickSound();
+                    game.setScreen(new DeveloperScreen(game));
+                }
+            });
+            stage.addActor(developerLabel);
+        }
     }
     private void updateMusicButtonStyle() {
         ImageButton.ImageButtonStyle musicStyle = new ImageButton.ImageButtonStyle();
@@ -162,15 +193,9 @@ public class SettingsScreen implements Screen {
 
     @Override
     public void dispose() {
-        batch.dispose();
         stage.dispose();
-        restartBtnNormal.dispose();
-        restartBtnPressed.dispose();
-        musicBtnNormal.dispose();
-        musicBtnPressed.dispose();
-        backBtnNormal.dispose();
-        backBtnPressed.dispose();
         backgroundTexture.dispose();
+        font.dispose();
     }
 
     @Override public void show() {   game.playDefaultMusic(); }
@@ -6,6 +6,7 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -22,39 +23,36 @@ public class ShopScreen implements Screen {
     private AssetManager assetManager;
     private SpriteBatch batch;
 
-    private Texture backBtnNormal;
-    private Texture backBtnPressed;
+    private TextureRegion backBtnNormal;
+    private TextureRegion backBtnPressed;
     private Texture girlTexture;
-    private Texture diamondTexture;
+    private TextureRegion diamondRegion;
     private Texture islandTexture;
     private Texture animalTexture;
     private Texture backgroundTexture;
 
     public ShopScreen(final MyGames game) {
-        batch = new SpriteBatch();
+        batch = game.getBatch();
         this.game = game;
     }
 
     @Override
     public void show() {
         assetManager = new AssetManager();
-        stage = new Stage(new ScreenViewport());
+        stage = new Stage(new ScreenViewport(), batch);
         Gdx.input.setInputProcessor(stage);
         game.playDefaultMusic();
         backgroundTexture = new Texture(Gdx.files.internal("space1.png"));
 
-        assetManager.load("back01.png", Texture.class);
-        assetManager.load("back02.png", Texture.class);
         assetManager.load("girlforscreen.png", Texture.class);
-        assetManager.load("stone.png", Texture.class);
         assetManager.load("chinamap.jpg", Texture.class);
         assetManager.load("icon_monster.png", Texture.class);
         assetManager.finishLoading();
 
-        backBtnNormal = assetManager.get("back01.png", Texture.class);
-        backBtnPressed = assetManager.get("back02.png", Texture.class);
+        backBtnNormal = game.getAtlases().shop("back01");
+        backBtnPressed = game.getAtlases().shop("back02");
         girlTexture = assetManager.get("girlforscreen.png", Texture.class);
-        diamondTexture = assetManager.get("stone.png", Texture.class);
+        diamondRegion = game.getAtlases().shop("stone");
         islandTexture = assetManager.get("chinamap.jpg", Texture.class);
         animalTexture = assetManager.get("icon_monster.png", Texture.class);
 
@@ -72,7 +70,7 @@ public class ShopScreen implements Screen {
         backButtonStyle.down = new TextureRegionDrawable(backBtnPressed);
 
         ImageButton girlButton = new ImageButton(new TextureRegionDrawable(girlTexture));
-        ImageButton diamondButton = new ImageButton(new TextureRegionDrawable(diamondTexture));
+        ImageButton diamondButton = new ImageButton(new TextureRegionDrawable(diamondRegion));
         ImageButton islandButton = new ImageButton(new TextureRegionDrawable(islandTexture));
         ImageButton animalButton = new ImageButton(new TextureRegionDrawable(animalTexture));
         ImageButton backButton = new ImageButton(backButtonStyle);
@@ -170,10 +168,7 @@ public class ShopScreen implements Screen {
     @Override
     public void dispose() {
         if (stage != null) stage.dispose();
-        if (backBtnNormal != null) backBtnNormal.dispose();
-        if (backBtnPressed != null) backBtnPressed.dispose();
         if (girlTexture != null) girlTexture.dispose();
-        if (diamondTexture != null) diamondTexture.dispose();
         if (islandTexture != null) islandTexture.dispose();
         if (animalTexture != null) animalTexture.dispose();
     }
@@ -0,0 +1,286 @@
+package game.info;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+public class SpatialHash implements BroadPhase {
+    private final float cellSize;
+    private final float inverseCellSize;
+    private final int[] buckets;
+    private final int bucketMask;
+    private int[] usedBuckets;
+    private int usedBucketCount;
+
+    private int[] nodeEntry;
+    private int[] nodeNext;
+    private int[] nodeCellX;
+    private int[] nodeCellY;
+    private int nodeCount;
+
+    private float[] minX;
+    private float[] minY;
+    private float[] maxX;
+    private float[] maxY;
+    private int[] ids;
+    private int[] layers;
+    private int[] stamps;
+    private int entryCount;
+    private int queryStamp;
+    private int minCellX, minCellY, maxCellX, maxCellY;
+    private int[] nearestEntries = new int[8];
+    private float[] nearestDistances = new float[8];
+
+    public SpatialHash(float cellSize, int expectedCells) {
+        this.cellSize = cellSize;
+        this.inverseCellSize = 1f / cellSize;
+        int bucketCount = MathUtils.nextPowerOfTwo(Math.max(16, expectedCells));
+        this.buckets = new int[bucketCount];
+        this.bucketMask = bucketCount - 1;
+        Arrays.fill(buckets, -1);
+        // A bucket is listed at most once, so this never has to grow mid-tick.
+        usedBuckets = new int[bucketCount];
+        minCellX = minCellY = Integer.MAX_VALUE;
+        maxCellX = maxCellY = Integer.MIN_VALUE;
+
+        nodeEntry = new int[256];
+        nodeNext = new int[256];
+        nodeCellX = new int[256];
+        nodeCellY = new int[256];
+
+        minX = new float[128];
+        minY = new float[128];
+        maxX = new float[128];
+        maxY = new float[128];
+        ids = new int[128];
+        layers = new int[128];
+        stamps = new int[128];
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < usedBucketCount; i++) {
+            buckets[usedBuckets[i]] = -1;
+        }
+        usedBucketCount = 0;
+        nodeCount = 0;
+        entryCount = 0;
+        minCellX = minCellY = Integer.MAX_VALUE;
+        maxCellX = maxCellY = Integer.MIN_VALUE;
+    }
+
+    @Override
+    public int insert(int layer, int id, float x, float y, float width, float height) {
+        if (entryCount == ids.length) growEntries();
+        int entry = entryCount++;
+        minX[entry] = x;
+        minY[entry] = y;
+        maxX[entry] = x + width;
+        maxY[entry] = y + height;
+        ids[entry] = id;
+        layers[entry] = layer;
+        stamps[entry] = queryStamp;
+
+        int cellX0 = cellOf(x), cellX1 = cellOf(x + width);
+        int cellY0 = cellOf(y), cellY1 = cellOf(y + height);
+        for (int cy = cellY0; cy <= cellY1; cy++) {
+            for (int cx = cellX0; cx <= cellX1; cx++) {
+                addNode(entry, cx, cy);
+            }
+        }
+        minCellX = Math.min(minCellX, cellX0);
+        minCellY = Math.min(minCellY, cellY0);
+        maxCellX = Math.max(maxCellX, cellX1);
+        maxCellY = Math.max(maxCellY, cellY1);
+        return entry;
+    }
+
+    @Override
+    public int queryOverlaps(float x, float y, float width, float height, int layerMask, IntArray out) {
+        return queryBox(x, y, x + width, y + height, -1, layerMask, out);
+    }
+
+    @Override
+    public int queryContacts(int entry, int layerMask, IntArray out) {
+        return queryBox(minX[entry], minY[entry], maxX[entry], maxY[entry], entry, layerMask, out);
+    }
+
+    public int queryRadius(float centerX, float centerY, float radius, int layerMask, IntArray out) {
+        out.clear();
+        queryStamp++;
+        float radius2 = radius * radius;
+        int cellX0 = cellOf(centerX - radius), cellX1 = cellOf(centerX + radius);
+        int cellY0 = cellOf(centerY - radius), cellY1 = cellOf(centerY + radius);
+        for (int cy = cellY0; cy <= cellY1; cy++) {
+            for (int cx = cellX0; cx <= cellX1; cx++) {
+                for (int node = buckets[bucketOf(cx, cy)]; node != -1; node = nodeNext[node]) {
+                    if (nodeCellX[node] != cx || nodeCellY[node] != cy) continue;
+                    int entry = nodeEntry[node];
+                    if (stamps[entry] == queryStamp) continue;
+                    stamps[entry] = queryStamp;
+                    if (((1 << layers[entry]) & layerMask) == 0) continue;
+                    float dx = Math.max(0, Math.max(minX[entry] - centerX, centerX - maxX[entry]));
+                    float dy = Math.max(0, Math.max(minY[entry] - centerY, centerY - maxY[entry]));
+                    if (dx * dx + dy * dy <= radius2) {
+                        out.add(entry);
+                    }
+                }
+            }
+        }
+        return out.size;
+    }
+
+    // Up to k entries closest to the point by center distance, nearest first. Searches rings
+    // of cells outward and stops once no unvisited cell can hold anything closer.
+    @Override
+    public int queryNearest(float x, float y, int k, int layerMask, IntArray out) {
+        out.clear();
+        if (k <= 0 || entryCount == 0) return 0;
+        queryStamp++;
+        if (nearestEntries.length < k) {
+            nearestEntries = new int[k];
+            nearestDistances = new float[k];
+        }
+
+        int found = 0;
+        int centerX = cellOf(x), centerY = cellOf(y);
+        int maxRing = Math.max(
+            Math.max(centerX - minCellX, maxCellX - centerX),
+            Math.max(centerY - minCellY, maxCellY - centerY));
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int cy = centerY - ring; cy <= centerY + ring; cy++) {
+                boolean edgeRow = cy == centerY - ring || cy == centerY + ring;
+                int step = edgeRow || ring == 0 ? 1 : 2 * ring;
+                for (int cx = centerX - ring; cx <= centerX + ring; cx += step) {
+                    found = collectNearest(cx, cy, x, y, k, layerMask, found);
+                }
+            }
+            float reach = ring * cellSize;
+            if (found == k && nearestDistances[k - 1] <= reach * reach) break;
+        }
+
+        for (int i = 0; i < found; i++) {
+            out.add(nearestEntries[i]);
+        }
+        return found;
+    }
+
+    private int collectNearest(int cellX, int cellY, float x, float y, int k, int layerMask, int found) {
+        for (int node = buckets[bucketOf(cellX, cellY)]; node != -1; node = nodeNext[node]) {
+            if (nodeCellX[node] != cellX || nodeCellY[node] != cellY) continue;
+            int entry = nodeEntry[node];
+            if (stamps[entry] == queryStamp) continue;
+            stamps[entry] = queryStamp;
+            if (((1 << layers[entry]) & layerMask) == 0) continue;
+
+            float dx = getCenterX(entry) - x;
+            float dy = getCenterY(entry) - y;
+            float distance = dx * dx + dy * dy;
+            if (found == k && distance >= nearestDistances[k - 1]) continue;
+
+            int i = found < k ? found++ : k - 1;
+            while (i > 0 && nearestDistances[i - 1] > distance) {
+                nearestEntries[i] = nearestEntries[i - 1];
+                nearestDistances[i] = nearestDistances[i - 1];
+                i--;
+            }
+            nearestEntries[i] = entry;
+            nearestDistances[i] = distance;
+        }
+        return found;
+    }
+
+    @Override
+    public int getId(int entry) {
+        return ids[entry];
+    }
+
+    public int getLayer(int entry) {
+        return layers[entry];
+    }
+
+    public float getCenterX(int entry) {
+        return (minX[entry] + maxX[entry]) / 2f;
+    }
+
+    public float getCenterY(int entry) {
+        return (minY[entry] + maxY[entry]) / 2f;
+    }
+
+    @Override
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    @Override
+    public void dispose() {
+    }
+
+    private int queryBox(float x, float y, float right, float top, int skipEntry, int layerMask, IntArray out) {
+        out.clear();
+        queryStamp++;
+        int cellX0 = cellOf(x), cellX1 = cellOf(right);
+        int cellY0 = cellOf(y), cellY1 = cellOf(top);
+        for (int cy = cellY0; cy <= cellY1; cy++) {
+            for (int cx = cellX0; cx <= cellX1; cx++) {
+                for (int node = buckets[bucketOf(cx, cy)]; node != -1; node = nodeNext[node]) {
+                    if (nodeCellX[node] != cx || nodeCellY[node] != cy) continue;
+                    int entry = nodeEntry[node];
+                    if (stamps[entry] == queryStamp || entry == skipEntry) continue;
+                    stamps[entry] = queryStamp;
+                    if (((1 << layers[entry]) & layerMask) == 0) continue;
+                    if (minX[entry] < right && maxX[entry] > x && minY[entry] < top && maxY[entry] > y) {
+                        out.add(entry);
+                    }
+                }
+            }
+        }
+        return out.size;
+    }
+
+    private int cellOf(float coordinate) {
+        return MathUtils.floor(coordinate * inverseCellSize);
+    }
+
+    private int bucketOf(int cellX, int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & bucketMask;
+    }
+
+    private void addNode(int entry, int cellX, int cellY) {
+        if (nodeCount == nodeEntry.length) growNodes();
+        int bucket = bucketOf(cellX, cellY);
+        int node = nodeCount++;
+        nodeEntry[node] = entry;
+        nodeCellX[node] = cellX;
+        nodeCellY[node] = cellY;
+        nodeNext[node] = buckets[bucket];
+        if (buckets[bucket] == -1) {
+            usedBuckets[usedBucketCount++] = bucket;
+        }
+        buckets[bucket] = node;
+    }
+
+    private void growNodes() {
+        int capacity = nodeEntry.length * 2;
+        nodeEntry = Arrays.copyOf(nodeEntry, capacity);
+        nodeNext = Arrays.copyOf(nodeNext, capacity);
+        nodeCellX = Arrays.copyOf(nodeCellX, capacity);
+        nodeCellY = Arrays.copyOf(nodeCellY, capacity);
+    }
+
+    private void growEntries() {
+        int capacity = ids.length * 2;
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        layers = Arrays.copyOf(layers, capacity);
+        stamps = Arrays.copyOf(stamps, capacity);
+    }
+}
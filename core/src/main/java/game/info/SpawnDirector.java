@@ -0,0 +1,107 @@
+package game.info;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+
+// Turns the growing wave threat into a spawn queue that is drained at most maxSpawnsPerTick
+// monsters per tick. Once the live population would pass the ceiling, threat is packed into fewer,
+// stronger archetypes instead of more bodies.
+public class SpawnDirector {
+    private final float waveInterval;
+    private final int populationCeiling;
+    private final int maxSpawnsPerTick;
+    private final RandomXS128 random;
+    private final int[] queued = new int[MonsterArchetype.ALL.length];
+    private final int[] composition = new int[MonsterArchetype.ALL.length];
+    private float waveTimer;
+    private int wave;
+    private int queuedTotal;
+    private int droppedThreat;
+    private float areaWidth;
+    private float areaHeight;
+
+    public SpawnDirector(float waveInterval, int populationCeiling, int maxSpawnsPerTick, RandomXS128 random) {
+        this.waveInterval = waveInterval;
+        this.populationCeiling = populationCeiling;
+        this.maxSpawnsPerTick = maxSpawnsPerTick;
+        this.random = random;
+    }
+
+    public void setSpawnArea(float width, float height) {
+        this.areaWidth = width;
+        this.areaHeight = height;
+    }
+
+    public void update(float delta, MonsterStore monsters) {
+        waveTimer += delta;
+        if (waveTimer >= waveInterval) {
+            waveTimer = 0;
+            wave++;
+            queueWave(wave, populationCeiling - monsters.size - queuedTotal);
+        }
+
+        int spawnsLeft = maxSpawnsPerTick;
+        for (int type = MonsterArchetype.ALL.length - 1; type >= 0 && spawnsLeft > 0; type--) {
+            while (queued[type] > 0 && spawnsLeft > 0 && monsters.size < populationCeiling) {
+                MonsterArchetype archetype = MonsterArchetype.ALL[type];
+                monsters.add(ArenaRandom.range(random, 0, areaWidth), ArenaRandom.range(random, 0, areaHeight), archetype);
+                queued[type]--;
+                queuedTotal--;
+                spawnsLeft--;
+            }
+        }
+    }
+
+    // The wave's threat is first spent on NORMAL monsters; while that needs more slots than
+    // are free, groups of weaker monsters are merged into the next archetype up.
+    private void queueWave(int threat, int freeSlots) {
+        for (int type = 0; type < composition.length; type++) {
+            composition[type] = 0;
+        }
+        composition[0] = threat;
+        int total = threat;
+        for (int type = 0; type < composition.length - 1 && total > freeSlots; type++) {
+            int ratio = MonsterArchetype.ALL[type + 1].getThreat() / MonsterArchetype.ALL[type].getThreat();
+            int merges = Math.min(composition[type] / ratio, MathUtils.ceil((total - freeSlots) / (float) (ratio - 1)));
+            composition[type] -= merges * ratio;
+            composition[type + 1] += merges;
+            total -= merges * (ratio - 1);
+        }
+        for (int type = 0; type < composition.length && total > freeSlots; type++) {
+            int cut = Math.min(composition[type], total - Math.max(0, freeSlots));
+            composition[type] -= cut;
+            total -= cut;
+            droppedThreat += cut * MonsterArchetype.ALL[type].getThreat();
+        }
+        for (int type = 0; type < composition.length; type++) {
+            queued[type] += composition[type];
+        }
+        queuedTotal += total;
+    }
+
+    public int getWave() {
+        return wave;
+    }
+
+    public int getQueuedCount() {
+        return queuedTotal;
+    }
+
+    public int getDroppedThreat() {
+        return droppedThreat;
+    }
+
+    public int getPopulationCeiling() {
+        return populationCeiling;
+    }
+
+    public void reset() {
+        waveTimer = 0;
+        wave = 0;
+        queuedTotal = 0;
+        droppedThreat = 0;
+        for (int type = 0; type < queued.length; type++) {
+            queued[type] = 0;
+        }
+    }
+}
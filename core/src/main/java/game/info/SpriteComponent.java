@@ -0,0 +1,27 @@
+package game.info;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Pool;
+
+public class SpriteComponent implements Component, Pool.Poolable {
+    public TextureRegion region;
+    public Animation<TextureRegion> animation;
+    public float stateTime;
+    public float width, height;
+    public boolean flipX;
+
+    public TextureRegion getFrame() {
+        return animation != null ? animation.getKeyFrame(stateTime) : region;
+    }
+
+    @Override
+    public void reset() {
+        region = null;
+        animation = null;
+        stateTime = 0;
+        width = height = 0;
+        flipX = false;
+    }
+}
@@ -0,0 +1,13 @@
+package game.info;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+public class VelocityComponent implements Component, Pool.Poolable {
+    public float x, y;
+
+    @Override
+    public void reset() {
+        x = y = 0;
+    }
+}
@@ -0,0 +1,122 @@
+package game.info;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Disposable;
+
+// Renders the world into an offscreen buffer with one texel per world unit and blits it to the
+// screen at the largest whole-number scale that still fills it. Tiles and sprites are then only
+// rasterized at the game's own resolution, however dense the display; the HUD is drawn on top
+// at native resolution. Takes the place of a FillViewport for the world camera.
+public class WorldRenderTarget implements Disposable {
+    private final OrthographicCamera camera;
+    private final int minWorldWidth;
+    private final int minWorldHeight;
+    private final Matrix4 screenProjection = new Matrix4();
+    private FrameBuffer frameBuffer;
+    private TextureRegion frame;
+    private int width, height;
+    private int scale = 1;
+    private int screenX, screenY;
+
+    public WorldRenderTarget(OrthographicCamera camera, int minWorldWidth, int minWorldHeight) {
+        this.camera = camera;
+        this.minWorldWidth = minWorldWidth;
+        this.minWorldHeight = minWorldHeight;
+    }
+
+    // Picks the scale and buffer size for a new screen size. The buffer itself is only
+    // (re)created by the next begin(), so this is safe to call without a GL context.
+    public void resize(int screenWidth, int screenHeight) {
+        scale = fillScale(screenWidth, screenHeight, minWorldWidth, minWorldHeight);
+        width = bufferSize(screenWidth, scale);
+        height = bufferSize(screenHeight, scale);
+        screenX = centerOffset(screenWidth, width, scale);
+        screenY = centerOffset(screenHeight, height, scale);
+        screenProjection.setToOrtho2D(0, 0, screenWidth, screenHeight);
+
+        camera.viewportWidth = width;
+        camera.viewportHeight = height;
+        camera.update();
+    }
+
+    // The largest whole-number scale at which the minimum world still fills the screen along one
+    // axis; 1 for screens smaller than the world.
+    static int fillScale(int screenWidth, int screenHeight, int minWorldWidth, int minWorldHeight) {
+        float fillScale = Math.max(screenWidth / (float) minWorldWidth, screenHeight / (float) minWorldHeight);
+        return Math.max(1, (int) fillScale);
+    }
+
+    // Texels needed to cover screenSize pixels at the given scale, rounded up.
+    static int bufferSize(int screenSize, int scale) {
+        return Math.max(1, (screenSize + scale - 1) / scale);
+    }
+
+    // Rounding the buffer up can overhang the screen by less than one scaled texel; this centres
+    // it, so the offset is zero or slightly negative.
+    static int centerOffset(int screenSize, int bufferSize, int scale) {
+        return (screenSize - bufferSize * scale) / 2;
+    }
+
+    // Moves the camera onto whole texels of the buffer and updates it, so tiles and sprites
+    // don't shimmer by a texel as it scrolls.
+    public void snapCamera() {
+        camera.position.x = MathUtils.round(camera.position.x - width / 2f) + width / 2f;
+        camera.position.y = MathUtils.round(camera.position.y - height / 2f) + height / 2f;
+        camera.update();
+    }
+
+    public void begin(float red, float green, float blue) {
+        if (frameBuffer == null || frameBuffer.getWidth() != width || frameBuffer.getHeight() != height) {
+            createFrameBuffer();
+        }
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(red, green, blue, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+    }
+
+    public void end() {
+        frameBuffer.end();
+    }
+
+    // Draws the finished world frame over the whole screen. Leaves the batch's projection
+    // pointing at screen pixels.
+    public void draw(Batch batch) {
+        batch.setProjectionMatrix(screenProjection);
+        batch.disableBlending();
+        batch.begin();
+        batch.draw(frame, screenX, screenY, width * scale, height * scale);
+        batch.end();
+        batch.enableBlending();
+    }
+
+    // Screen coordinates (y down) to world coordinates through the scaled and centred frame.
+    public Vector3 unproject(Vector3 screenCoords) {
+        return camera.unproject(screenCoords, screenX, screenY, width * scale, height * scale);
+    }
+
+    private void createFrameBuffer() {
+        if (frameBuffer != null) frameBuffer.dispose();
+        frameBuffer = new FrameBuffer(Pixmap.Format.RGB888, width, height, false);
+        Texture texture = frameBuffer.getColorBufferTexture();
+        texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        frame = new TextureRegion(texture);
+        frame.flip(false, true);
+    }
+
+    @Override
+    public void dispose() {
+        if (frameBuffer != null) frameBuffer.dispose();
+        frameBuffer = null;
+        frame = null;
+    }
+}
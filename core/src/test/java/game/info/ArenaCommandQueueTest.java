@@ -0,0 +1,125 @@
+package game.info;
+
+import com.badlogic.gdx.utils.IntArray;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ArenaCommandQueueTest {
+    @Test
+    public void drainsInOfferOrder() {
+        ArenaCommandQueue queue = new ArenaCommandQueue(8);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(queue.offer(i, i * 10));
+        }
+        IntArray drained = new IntArray();
+        assertEquals(5, queue.drain((type, value) -> {
+            drained.add(type);
+            drained.add(value);
+        }));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, drained.get(i * 2));
+            assertEquals(i * 10, drained.get(i * 2 + 1));
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void capacityRoundsUpToAPowerOfTwo() {
+        assertEquals(8, new ArenaCommandQueue(5).getCapacity());
+        assertEquals(2, new ArenaCommandQueue(0).getCapacity());
+    }
+
+    @Test
+    public void fullQueueDropsAndCounts() {
+        ArenaCommandQueue queue = new ArenaCommandQueue(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+        assertFalse(queue.offer(5));
+        assertEquals(2, queue.getDroppedCount());
+
+        IntArray types = new IntArray();
+        queue.drain((type, value) -> types.add(type));
+        assertEquals(4, types.size);
+        assertEquals(3, types.get(3));
+        assertTrue(queue.offer(6));
+    }
+
+    @Test
+    public void wrapsAroundManyTimes() {
+        ArenaCommandQueue queue = new ArenaCommandQueue(4);
+        int[] next = {0};
+        for (int round = 0; round < 1000; round++) {
+            assertTrue(queue.offer(round * 3));
+            assertTrue(queue.offer(round * 3 + 1));
+            assertTrue(queue.offer(round * 3 + 2));
+            queue.drain((type, value) -> assertEquals(next[0]++, type));
+        }
+        assertEquals(3000, next[0]);
+        assertEquals(0, queue.getDroppedCount());
+    }
+
+    @Test
+    public void clearDiscardsPendingCommands() {
+        ArenaCommandQueue queue = new ArenaCommandQueue(4);
+        queue.offer(1);
+        queue.offer(2);
+        queue.clear();
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.drain((type, value) -> { }));
+    }
+
+    // Several producers race one consumer through a small queue. Every command must arrive
+    // exactly once, and each producer's commands in the order it offered them.
+    @Test
+    public void producersRaceOneConsumer() throws InterruptedException {
+        final int producers = 4;
+        final int perProducer = 20_000;
+        ArenaCommandQueue queue = new ArenaCommandQueue(256);
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+            threads[p] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    while (!queue.offer(producer, i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            threads[p].start();
+        }
+
+        int[] expected = new int[producers];
+        int[] received = {0};
+        start.countDown();
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (received[0] < producers * perProducer && System.currentTimeMillis() < deadline) {
+            queue.drain((producer, value) -> {
+                assertEquals("Producer " + producer, expected[producer], value);
+                expected[producer]++;
+                received[0]++;
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(producers * perProducer, received[0]);
+        for (int p = 0; p < producers; p++) {
+            assertEquals(perProducer, expected[p]);
+        }
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,81 @@
+package game.info;
+
+import com.badlogic.gdx.math.RandomXS128;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ArenaRandomTest {
+    private static final int DRAWS = 64;
+
+    @Test
+    public void sameSeedGivesSameStreams() {
+        ArenaRandom a = new ArenaRandom(42);
+        ArenaRandom b = new ArenaRandom(42);
+
+        assertArrayEquals(draw(a.getSpawns()), draw(b.getSpawns()));
+        assertArrayEquals(draw(a.getSpells()), draw(b.getSpells()));
+        assertArrayEquals(draw(a.getAudio()), draw(b.getAudio()));
+    }
+
+    // The point of separate streams: extra audio and spell draws must not move the spawns.
+    @Test
+    public void drawsInOneStreamDoNotShiftAnother() {
+        long[] expected = draw(new ArenaRandom(7).getSpawns());
+
+        ArenaRandom random = new ArenaRandom(7);
+        long[] spawns = new long[DRAWS];
+        for (int i = 0; i < DRAWS; i++) {
+            for (int extra = 0; extra < i % 4; extra++) {
+                random.getAudio().nextLong();
+                random.getSpells().nextFloat();
+            }
+            spawns[i] = random.getSpawns().nextLong();
+        }
+        assertArrayEquals(expected, spawns);
+    }
+
+    @Test
+    public void streamsDifferFromEachOtherAndAcrossSeeds() {
+        ArenaRandom random = new ArenaRandom(7);
+        long[] spawns = draw(random.getSpawns());
+        long[] spells = draw(random.getSpells());
+        long[] audio = draw(random.getAudio());
+
+        assertFalse(spawns[0] == spells[0] || spawns[0] == audio[0] || spells[0] == audio[0]);
+        assertFalse(spawns[0] == draw(new ArenaRandom(8).getSpawns())[0]);
+    }
+
+    @Test
+    public void setSeedRestartsEveryStream() {
+        ArenaRandom random = new ArenaRandom(5);
+        long[] spawns = draw(random.getSpawns());
+        long[] spells = draw(random.getSpells());
+        random.getAudio().nextLong();
+
+        random.setSeed(5);
+        assertEquals(5, random.getSeed());
+        assertArrayEquals(spawns, draw(random.getSpawns()));
+        assertArrayEquals(spells, draw(random.getSpells()));
+    }
+
+    @Test
+    public void rangeStaysWithinBounds() {
+        ArenaRandom random = new ArenaRandom(3);
+        for (int i = 0; i < 1000; i++) {
+            float value = ArenaRandom.range(random.getSpawns(), -4f, 10f);
+            assertTrue(value >= -4f && value <= 10f);
+        }
+    }
+
+    private static long[] draw(RandomXS128 stream) {
+        long[] values = new long[DRAWS];
+        for (int i = 0; i < DRAWS; i++) {
+            values[i] = stream.nextLong();
+        }
+        return values;
+    }
+}
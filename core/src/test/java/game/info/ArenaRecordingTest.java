@@ -0,0 +1,94 @@
+package game.info;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ArenaRecordingTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writeThenReadKeepsHeaderAndEvents() throws IOException {
+        int flags = ArenaRecording.FLAG_KNIFE_UPGRADE | ArenaRecording.FLAG_BOX2D_BROAD_PHASE;
+        ArenaRecording recording = new ArenaRecording("dungeon", -0x1234_5678_9ABCL, 60, "knight", flags);
+        recording.record(0, ArenaRecording.EVENT_JOYSTICK, 0x7FFF_8001);
+        recording.record(0, ArenaRecording.EVENT_FIRE, 0);
+        recording.record(1, ArenaRecording.EVENT_PAUSE, 0);
+        // A long pause, so the tick delta needs several varint bytes.
+        recording.record(5_000_000_000L, ArenaRecording.EVENT_RESUME, 0);
+        recording.record(5_000_000_001L, ArenaRecording.EVENT_JOYSTICK, -1);
+
+        FileHandle file = new FileHandle(folder.newFile("run.ssr"));
+        recording.write(file);
+        ArenaRecording read = ArenaRecording.read(file);
+
+        assertEquals("dungeon", read.getLevelName());
+        assertEquals(-0x1234_5678_9ABCL, read.getSeed());
+        assertEquals(60, read.getTickRate());
+        assertEquals("knight", read.getHero());
+        assertTrue(read.hasFlag(ArenaRecording.FLAG_KNIFE_UPGRADE));
+        assertTrue(read.hasFlag(ArenaRecording.FLAG_BOX2D_BROAD_PHASE));
+        assertFalse(read.hasFlag(ArenaRecording.FLAG_SPEED_UPGRADE));
+        assertEquals(5, read.getEventCount());
+
+        IntArray events = new IntArray();
+        ArenaCommandQueue.Handler handler = (type, value) -> {
+            events.add(type);
+            events.add(value);
+        };
+        assertEquals(2, read.replay(0, handler));
+        assertEquals(1, read.replay(4_999_999_999L, handler));
+        assertEquals(0, read.replay(4_999_999_999L, handler));
+        assertEquals(2, read.replay(5_000_000_001L, handler));
+        assertTrue(read.isFinished());
+        assertEquals(new IntArray(new int[]{
+            ArenaRecording.EVENT_JOYSTICK, 0x7FFF_8001,
+            ArenaRecording.EVENT_FIRE, 0,
+            ArenaRecording.EVENT_PAUSE, 0,
+            ArenaRecording.EVENT_RESUME, 0,
+            ArenaRecording.EVENT_JOYSTICK, -1}), events);
+    }
+
+    @Test
+    public void emptyRecordingRoundTrips() throws IOException {
+        FileHandle file = new FileHandle(folder.newFile("empty.ssr"));
+        new ArenaRecording("forest", 1, 30, "default", 0).write(file);
+        ArenaRecording read = ArenaRecording.read(file);
+
+        assertEquals(0, read.getEventCount());
+        assertEquals(30, read.getTickRate());
+        assertTrue(read.isFinished());
+    }
+
+    @Test(expected = GdxRuntimeException.class)
+    public void rejectsOtherFiles() throws IOException {
+        FileHandle file = new FileHandle(folder.newFile("notes.ssr"));
+        file.writeString("not a recording", false);
+        ArenaRecording.read(file);
+    }
+
+    @Test
+    public void rewindPlaysTheEventsAgain() {
+        ArenaRecording recording = new ArenaRecording("forest", 1, 60, "default", 0);
+        recording.record(0, ArenaRecording.EVENT_FIRE, 0);
+        recording.record(10, ArenaRecording.EVENT_JOYSTICK, 5);
+        ArenaCommandQueue.Handler ignore = (type, value) -> { };
+        assertEquals(2, recording.replay(10, ignore));
+        assertTrue(recording.isFinished());
+
+        recording.rewind();
+        assertFalse(recording.isFinished());
+        assertEquals(1, recording.replay(0, ignore));
+        assertEquals(1, recording.replay(10, ignore));
+    }
+}
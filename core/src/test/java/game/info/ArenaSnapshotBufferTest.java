@@ -0,0 +1,80 @@
+package game.info;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ArenaSnapshotBufferTest {
+    @Test
+    public void acquireReturnsTheLatestPublishedSnapshot() {
+        ArenaSnapshotBuffer buffer = new ArenaSnapshotBuffer();
+        buffer.getBackBuffer().tick = 1;
+        buffer.publish();
+        buffer.getBackBuffer().tick = 2;
+        buffer.publish();
+
+        ArenaSnapshot front = buffer.acquire();
+        assertEquals(2, front.tick);
+        assertSame(front, buffer.acquire());
+    }
+
+    @Test
+    public void writerNeverGetsTheReadersSnapshot() {
+        ArenaSnapshotBuffer buffer = new ArenaSnapshotBuffer();
+        for (int tick = 0; tick < 100; tick++) {
+            buffer.getBackBuffer().tick = tick;
+            buffer.publish();
+            ArenaSnapshot front = buffer.acquire();
+            assertEquals(tick, front.tick);
+            assertNotSame(front, buffer.getBackBuffer());
+        }
+    }
+
+    // The simulation publishes as fast as it can while the renderer keeps acquiring. Every
+    // snapshot the reader sees must be whole (all fields from the same tick) and no older
+    // than the one it saw before.
+    @Test
+    public void readerNeverSeesATornOrOlderSnapshot() throws InterruptedException {
+        final long ticks = 200_000;
+        ArenaSnapshotBuffer buffer = new ArenaSnapshotBuffer();
+        AtomicBoolean done = new AtomicBoolean();
+        Thread writer = new Thread(() -> {
+            for (long tick = 1; tick <= ticks; tick++) {
+                ArenaSnapshot snapshot = buffer.getBackBuffer();
+                snapshot.tick = tick;
+                snapshot.playerX = tick;
+                snapshot.monsters.clear();
+                for (int i = 0; i < 8; i++) {
+                    snapshot.monsters.add(0, 0, tick, tick, i, 1f);
+                }
+                snapshot.playerY = tick;
+                buffer.publish();
+            }
+            done.set(true);
+        });
+        writer.start();
+
+        long last = 0;
+        while (!done.get() || last < ticks) {
+            ArenaSnapshot snapshot = buffer.acquire();
+            long tick = snapshot.tick;
+            assertTrue("Went back from " + last + " to " + tick, tick >= last);
+            assertEquals((float) tick, snapshot.playerX, 0f);
+            assertEquals((float) tick, snapshot.playerY, 0f);
+            if (tick > 0) {
+                assertEquals(8, snapshot.monsters.size);
+                for (int i = 0; i < 8; i++) {
+                    assertEquals((float) tick, snapshot.monsters.x[i], 0f);
+                }
+            }
+            last = tick;
+        }
+        writer.join();
+        assertEquals(ticks, last);
+    }
+}
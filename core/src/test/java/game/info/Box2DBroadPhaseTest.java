@@ -0,0 +1,119 @@
+package game.info;
+
+import com.badlogic.gdx.utils.IntArray;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class Box2DBroadPhaseTest {
+    private static final int LAYER_PLAYER = 0;
+    private static final int LAYER_MONSTER = 1;
+    private static final int LAYER_KNIFE = 2;
+
+    private Box2DBroadPhase broadPhase;
+
+    @Before
+    public void createBroadPhase() {
+        broadPhase = new Box2DBroadPhase(32f);
+        broadPhase.enableContacts(LAYER_PLAYER, LAYER_MONSTER);
+        broadPhase.enableContacts(LAYER_KNIFE, LAYER_MONSTER);
+    }
+
+    @After
+    public void disposeBroadPhase() {
+        broadPhase.dispose();
+    }
+
+    // The arena disposes its broad phase both when the level ends and when the screen goes
+    // away; freeing the native world a second time used to crash the JVM.
+    @Test
+    public void disposingTwiceIsHarmless() {
+        broadPhase.insert(LAYER_PLAYER, 0, 0, 0, 8, 8);
+        broadPhase.queryContacts(0, 1 << LAYER_MONSTER, new IntArray());
+        broadPhase.dispose();
+    }
+
+    // Boxes wander and the entry count rises and falls between rebuilds, so slots are re-posed,
+    // resized, left alone and parked; the listener's contacts must match a brute-force check
+    // after every rebuild.
+    @Test
+    public void contactsMatchBruteForceAcrossRebuilds() {
+        Random random = new Random(11);
+        float[][] boxes = new float[300][];
+        for (int i = 0; i < boxes.length; i++) {
+            boxes[i] = new float[]{random.nextFloat() * 800, random.nextFloat() * 800,
+                8 + random.nextInt(3) * 8, 8 + random.nextInt(3) * 8};
+        }
+        IntArray out = new IntArray();
+
+        for (int tick = 0; tick < 40; tick++) {
+            int count = 100 + random.nextInt(boxes.length - 100);
+            broadPhase.clear();
+            for (int i = 0; i < count; i++) {
+                float[] box = boxes[i];
+                if (random.nextInt(4) == 0) {
+                    box[0] += random.nextFloat() * 20 - 10;
+                    box[1] += random.nextFloat() * 20 - 10;
+                }
+                broadPhase.insert(layerOf(i), i, box[0], box[1], box[2], box[3]);
+            }
+
+            for (int entry = 0; entry < count; entry++) {
+                int layer = layerOf(broadPhase.getId(entry));
+                int mask = layer == LAYER_MONSTER ? (1 << LAYER_PLAYER) | (1 << LAYER_KNIFE) : 1 << LAYER_MONSTER;
+                broadPhase.queryContacts(entry, mask, out);
+
+                boolean[] reported = new boolean[count];
+                for (int i = 0; i < out.size; i++) {
+                    int id = broadPhase.getId(out.get(i));
+                    assertFalse("Reported twice: " + id, reported[id]);
+                    reported[id] = true;
+                }
+                float[] a = boxes[entry];
+                for (int id = 0; id < count; id++) {
+                    float[] b = boxes[id];
+                    boolean expected = id != entry && ((1 << layerOf(id)) & mask) != 0
+                        && a[0] < b[0] + b[2] && a[0] + a[2] > b[0] && a[1] < b[1] + b[3] && a[1] + a[3] > b[1];
+                    assertEquals("Tick " + tick + ", entry " + entry + " with " + id, expected, reported[id]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void onlyEnabledLayerPairsReportContacts() {
+        int player = broadPhase.insert(LAYER_PLAYER, 0, 0, 0, 10, 10);
+        broadPhase.insert(LAYER_MONSTER, 1, 5, 5, 10, 10);
+        broadPhase.insert(LAYER_KNIFE, 2, 5, 5, 10, 10);
+        IntArray out = new IntArray();
+
+        assertEquals(1, broadPhase.queryContacts(player, ~0, out));
+        assertEquals(1, broadPhase.getId(out.get(0)));
+    }
+
+    @Test
+    public void contactsEndWhenEntriesSeparate() {
+        IntArray out = new IntArray();
+        broadPhase.insert(LAYER_PLAYER, 0, 0, 0, 10, 10);
+        broadPhase.insert(LAYER_MONSTER, 1, 5, 5, 10, 10);
+        assertEquals(1, broadPhase.queryContacts(0, 1 << LAYER_MONSTER, out));
+
+        broadPhase.clear();
+        broadPhase.insert(LAYER_PLAYER, 0, 0, 0, 10, 10);
+        broadPhase.insert(LAYER_MONSTER, 1, 200, 5, 10, 10);
+        assertEquals(0, broadPhase.queryContacts(0, 1 << LAYER_MONSTER, out));
+
+        broadPhase.clear();
+        broadPhase.insert(LAYER_PLAYER, 0, 0, 0, 10, 10);
+        assertEquals(0, broadPhase.queryContacts(0, 1 << LAYER_MONSTER, out));
+    }
+
+    private static int layerOf(int id) {
+        return id == 0 ? LAYER_PLAYER : id % 5 == 0 ? LAYER_KNIFE : LAYER_MONSTER;
+    }
+}
@@ -0,0 +1,62 @@
+package game.info;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FixedTimestepTest {
+    private static final int TICK_RATE = 60;
+    private static final float STEP = 1f / TICK_RATE;
+
+    // A long stall runs at most maxCatchUpSteps ticks and drops the rest of the time, so the
+    // next frames don't keep catching up.
+    @Test
+    public void longFrameIsClampedAndTheRestDropped() {
+        FixedTimestep timestep = new FixedTimestep(TICK_RATE, 5);
+        assertEquals(5, timestep.advance(2f));
+        assertEquals(0, timestep.getAlpha(), 0);
+        assertEquals(0, timestep.advance(0));
+        assertEquals(1, timestep.advance(STEP));
+    }
+
+    @Test
+    public void partialFrameLeavesTheRemainderAsAlpha() {
+        FixedTimestep timestep = new FixedTimestep(TICK_RATE, 5);
+        assertEquals(0, timestep.advance(STEP * 0.25f));
+        assertEquals(0.25f, timestep.getAlpha(), 1e-4f);
+        assertEquals(2, timestep.advance(STEP * 2f));
+        assertEquals(0.25f, timestep.getAlpha(), 1e-4f);
+        assertEquals(1, timestep.advance(STEP * 0.75f));
+        assertEquals(0, timestep.getAlpha(), 1e-4f);
+    }
+
+    // Below the clamp no time is lost: ticks run plus the alpha fraction add up to the time
+    // fed in, and alpha stays in [0, 1) whatever the frame lengths.
+    @Test
+    public void ticksAndAlphaAccountForAllTime() {
+        FixedTimestep timestep = new FixedTimestep(TICK_RATE, 1000);
+        Random random = new Random(7);
+        double fed = 0;
+        long ticks = 0;
+        for (int frame = 0; frame < 10000; frame++) {
+            float delta = random.nextFloat() * 3 * STEP;
+            fed += delta;
+            ticks += timestep.advance(delta);
+            float alpha = timestep.getAlpha();
+            assertTrue("Frame " + frame + " alpha " + alpha, alpha >= 0 && alpha < 1);
+            assertEquals("Frame " + frame, fed / STEP, ticks + alpha, 0.05);
+        }
+    }
+
+    @Test
+    public void resetDropsTheRemainder() {
+        FixedTimestep timestep = new FixedTimestep(TICK_RATE, 5);
+        timestep.advance(STEP * 0.5f);
+        timestep.reset();
+        assertEquals(0, timestep.getAlpha(), 0);
+        assertEquals(0, timestep.advance(STEP * 0.9f));
+    }
+}
@@ -0,0 +1,191 @@
+package game.info;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FlowFieldTest {
+    private static final float TILE_SIZE = 16f;
+    private static final int[] STEP_X = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] STEP_Y = {0, 0, 1, -1, 1, -1, 1, -1};
+
+    // The bucket queue has to settle on the same distances as a textbook Dijkstra with a
+    // binary heap, over maps with walls and mixed tile costs.
+    @Test
+    public void distancesMatchHeapDijkstra() {
+        Random random = new Random(12);
+        for (int map = 0; map < 20; map++) {
+            int width = 10 + random.nextInt(30);
+            int height = 10 + random.nextInt(30);
+            FlowField field = new FlowField(width, height, TILE_SIZE);
+            for (int cellY = 0; cellY < height; cellY++) {
+                for (int cellX = 0; cellX < width; cellX++) {
+                    int roll = random.nextInt(10);
+                    int cost = roll < 2 ? FlowField.BLOCKED : roll < 4 ? FlowField.ROUGH_COST : FlowField.GROUND_COST;
+                    field.setCost(cellX, cellY, cost);
+                }
+            }
+            int targetX = random.nextInt(width);
+            int targetY = random.nextInt(height);
+            field.setCost(targetX, targetY, FlowField.GROUND_COST);
+            assertTrue(field.setTarget((targetX + 0.5f) * TILE_SIZE, (targetY + 0.5f) * TILE_SIZE));
+
+            int[] expected = dijkstra(field, targetY * width + targetX);
+            for (int cell = 0; cell < width * height; cell++) {
+                assertEquals("Map " + map + " cell " + cell, expected[cell], field.getDistance(cell));
+                boolean reached = expected[cell] != Integer.MAX_VALUE && expected[cell] > 0;
+                assertEquals("Map " + map + " cell " + cell, reached, field.hasDirection(cell));
+            }
+        }
+    }
+
+    // Each step along the field must land on a cell that is strictly closer, so following it
+    // always ends at the target.
+    @Test
+    public void directionsLeadDownhillToTheTarget() {
+        FlowField field = new FlowField(20, 20, TILE_SIZE);
+        for (int cellY = 2; cellY < 18; cellY++) {
+            field.setCost(10, cellY, FlowField.BLOCKED);
+        }
+        field.setTarget(15.5f * TILE_SIZE, 10.5f * TILE_SIZE);
+        int target = field.cellAt(15.5f * TILE_SIZE, 10.5f * TILE_SIZE);
+
+        for (int start = 0; start < 400; start++) {
+            if (field.getCost(start % 20, start / 20) == FlowField.BLOCKED) continue;
+            int cell = start;
+            for (int steps = 0; cell != target; steps++) {
+                assertTrue("Stuck at " + cell, field.hasDirection(cell));
+                assertTrue("Looping from " + start, steps < 400);
+                int next = field.cellAt(
+                    (cell % 20 + 0.5f + Math.round(field.getDirectionX(cell))) * TILE_SIZE,
+                    (cell / 20 + 0.5f + Math.round(field.getDirectionY(cell))) * TILE_SIZE);
+                assertTrue(field.getDistance(next) < field.getDistance(cell));
+                cell = next;
+            }
+        }
+    }
+
+    @Test
+    public void diagonalsDoNotCutWallCorners() {
+        FlowField field = new FlowField(3, 3, TILE_SIZE);
+        field.setCost(1, 0, FlowField.BLOCKED);
+        field.setTarget(0.5f * TILE_SIZE, 0.5f * TILE_SIZE);
+
+        // (1,1) could reach (0,0) diagonally, but (1,0) is a wall, so it goes round via (0,1).
+        int cell = field.cellAt(1.5f * TILE_SIZE, 1.5f * TILE_SIZE);
+        assertEquals(-1f, field.getDirectionX(cell), 0f);
+        assertEquals(0f, field.getDirectionY(cell), 0f);
+    }
+
+    @Test
+    public void walledOffCellsHaveNoDirection() {
+        FlowField field = new FlowField(5, 5, TILE_SIZE);
+        for (int i = 0; i < 5; i++) {
+            field.setCost(2, i, FlowField.BLOCKED);
+        }
+        field.setTarget(0.5f * TILE_SIZE, 0.5f * TILE_SIZE);
+
+        assertFalse(field.hasDirection(field.cellAt(4.5f * TILE_SIZE, 4.5f * TILE_SIZE)));
+        assertTrue(field.hasDirection(field.cellAt(1.5f * TILE_SIZE, 4.5f * TILE_SIZE)));
+        assertFalse(field.hasDirection(-1));
+    }
+
+    @Test
+    public void sameTargetCellDoesNotRebuild() {
+        FlowField field = new FlowField(8, 8, TILE_SIZE);
+        assertTrue(field.setTarget(20, 20));
+        assertFalse(field.setTarget(25, 30));
+        assertEquals(1, field.getRebuildCount());
+
+        // A cost change invalidates the field even for the same target.
+        field.setCost(0, 0, FlowField.BLOCKED);
+        assertTrue(field.setTarget(25, 30));
+        assertFalse(field.setTarget(-5, 20));
+        assertEquals(2, field.getRebuildCount());
+    }
+
+    // The dungeon marks whole wall tilesets as blocked rather than each tile; both count.
+    @Test
+    public void blockedTilesetsAndTilesBecomeWalls() {
+        TiledMap map = new TiledMap();
+        TiledMapTileSet walls = new TiledMapTileSet();
+        walls.getProperties().put("blocked", true);
+        StaticTiledMapTile wall = createTile(1, walls);
+        TiledMapTileSet ground = new TiledMapTileSet();
+        StaticTiledMapTile floor = createTile(2, ground);
+        StaticTiledMapTile rock = createTile(3, ground);
+        rock.getProperties().put("blocked", true);
+        map.getTileSets().addTileSet(walls);
+        map.getTileSets().addTileSet(ground);
+
+        TiledMapTileLayer layer = new TiledMapTileLayer(6, 6, (int) TILE_SIZE, (int) TILE_SIZE);
+        for (int cellY = 0; cellY < 6; cellY++) {
+            for (int cellX = 0; cellX < 6; cellX++) {
+                TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+                cell.setTile(cellX == 2 && cellY < 4 ? wall : cellX == 4 && cellY == 4 ? rock : floor);
+                layer.setCell(cellX, cellY, cell);
+            }
+        }
+        map.getLayers().add(layer);
+
+        FlowField field = FlowField.fromMap(map, 6, 6, TILE_SIZE, 0, 0, 6 * TILE_SIZE, 6 * TILE_SIZE);
+        for (int cellY = 0; cellY < 6; cellY++) {
+            for (int cellX = 0; cellX < 6; cellX++) {
+                boolean blocked = (cellX == 2 && cellY < 4) || (cellX == 4 && cellY == 4);
+                assertEquals(cellX + "," + cellY, blocked ? FlowField.BLOCKED : FlowField.GROUND_COST, field.getCost(cellX, cellY));
+            }
+        }
+    }
+
+    private static StaticTiledMapTile createTile(int id, TiledMapTileSet tileSet) {
+        StaticTiledMapTile tile = new StaticTiledMapTile(new TextureRegion());
+        tile.setId(id);
+        tileSet.putTile(id, tile);
+        return tile;
+    }
+
+    private static int[] dijkstra(FlowField field, int target) {
+        int width = field.getWidth();
+        int height = field.getHeight();
+        int[] distance = new int[width * height];
+        Arrays.fill(distance, Integer.MAX_VALUE);
+        distance[target] = 0;
+        PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        queue.add(new long[]{0, target});
+        while (!queue.isEmpty()) {
+            long[] head = queue.poll();
+            int cell = (int) head[1];
+            if (head[0] != distance[cell]) continue;
+            int cellX = cell % width;
+            int cellY = cell / width;
+            for (int i = 0; i < 8; i++) {
+                int x = cellX + STEP_X[i];
+                int y = cellY + STEP_Y[i];
+                if (x < 0 || y < 0 || x >= width || y >= height) continue;
+                int cost = field.getCost(x, y);
+                if (cost == FlowField.BLOCKED) continue;
+                boolean diagonal = i >= 4;
+                if (diagonal && (field.getCost(x, cellY) == FlowField.BLOCKED
+                    || field.getCost(cellX, y) == FlowField.BLOCKED)) continue;
+                int next = distance[cell] + cost * (diagonal ? 14 : 10);
+                int neighbour = y * width + x;
+                if (next < distance[neighbour]) {
+                    distance[neighbour] = next;
+                    queue.add(new long[]{next, neighbour});
+                }
+            }
+        }
+        return distance;
+    }
+}
@@ -0,0 +1,102 @@
+package game.info;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ProjectileSystemTest {
+    private static final int CAPACITY = 4;
+    private static final float LIFETIME = 10f;
+
+    @Test
+    public void launchesPastTheCapAreRefused() {
+        ProjectileSystem projectiles = createSystem(false);
+        for (int i = 0; i < CAPACITY; i++) {
+            assertNotNull(projectiles.launch(i, 0, 1, 0));
+        }
+        assertNull(projectiles.launch(0, 0, 1, 0));
+        assertNull(projectiles.launch(0, 0, 1, 0));
+
+        assertEquals(CAPACITY, projectiles.size());
+        assertEquals(CAPACITY, projectiles.getLaunchedCount());
+        assertEquals(2, projectiles.getRejectedCount());
+        // The oldest shot is kept rather than recycled.
+        assertEquals(0, projectiles.get(0).getX(), 0);
+    }
+
+    @Test
+    public void freedProjectilesComeBackReset() {
+        ProjectileSystem projectiles = createSystem(true);
+        Projectile first = projectiles.launch(10, 10, 5, 5);
+        projectiles.update(1f);
+        first.startFading(0.5f);
+        projectiles.update(1f);
+        assertEquals(0, projectiles.size());
+        assertEquals(1, projectiles.getExpiredCount());
+
+        Projectile second = projectiles.launch(20, 30, 0, 0);
+        assertSame(first, second);
+        assertFalse(second.isFading());
+        assertEquals(0, second.getFadeTimer(), 0);
+        assertEquals(0, second.getAge(), 0);
+        assertEquals(20, second.getX(), 0);
+        assertEquals(30, second.getY(), 0);
+        assertEquals(20, second.getInterpolatedX(0), 0);
+    }
+
+    @Test
+    public void strayProjectilesAreReclaimed() {
+        ProjectileSystem projectiles = createSystem(false);
+        projectiles.setWorldBounds(100, 100);
+        MonsterStore monsters = new MonsterStore();
+        ArenaMetrics metrics = new ArenaMetrics();
+
+        projectiles.launch(50, 50, 0, 0);
+        Projectile stray = projectiles.launch(95, 50, 1000, 0);
+        metrics.update(monsters, projectiles, createSystem(false));
+        assertEquals(2, metrics.getActiveProjectiles());
+
+        projectiles.update(0.1f);
+        assertEquals(1, projectiles.size());
+        assertEquals(1, projectiles.getReclaimedCount());
+        assertEquals(0, projectiles.getExpiredCount());
+        assertFalse(projectiles.get(0) == stray);
+
+        metrics.update(monsters, projectiles, createSystem(false));
+        assertEquals(1, metrics.getActiveProjectiles());
+        assertEquals(1, metrics.getReclaimedProjectiles());
+        assertEquals(2, metrics.getLaunchedProjectiles());
+    }
+
+    @Test
+    public void projectilesOutlivingTheirLifetimeAreReclaimed() {
+        ProjectileSystem projectiles = createSystem(false);
+        projectiles.launch(50, 50, 0, 0);
+        projectiles.update(LIFETIME / 2);
+        assertEquals(1, projectiles.size());
+        projectiles.update(LIFETIME);
+        assertEquals(0, projectiles.size());
+        assertEquals(1, projectiles.getReclaimedCount());
+    }
+
+    // A region with a size but no texture; the system only reads its dimensions.
+    private static ProjectileSystem createSystem(boolean bobbing) {
+        TextureRegion region = new TextureRegion() {
+            @Override
+            public int getRegionWidth() {
+                return 8;
+            }
+
+            @Override
+            public int getRegionHeight() {
+                return 8;
+            }
+        };
+        return new ProjectileSystem(region, bobbing, CAPACITY, LIFETIME);
+    }
+}
@@ -0,0 +1,81 @@
+package game.info;
+
+import com.badlogic.gdx.utils.IntArray;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class SpatialHashNearestTest {
+    private static final float CELL_SIZE = 32f;
+
+    // The ring search stops early, so check it against a full sort of every entry, including
+    // query points far outside the populated cells.
+    @Test
+    public void nearestMatchesBruteForce() {
+        Random random = new Random(7);
+        SpatialHash hash = new SpatialHash(CELL_SIZE, 64);
+        float[][] boxes = SpatialHashTest.insertRandomBoxes(hash, random, 300);
+        IntArray out = new IntArray();
+
+        for (int query = 0; query < 300; query++) {
+            float x = random.nextFloat() * 2000 - 600;
+            float y = random.nextFloat() * 2000 - 600;
+            int k = 1 + random.nextInt(6);
+            assertEquals(k, hash.queryNearest(x, y, k, ~0, out));
+
+            float[] expected = sortedDistances(boxes, x, y);
+            for (int i = 0; i < k; i++) {
+                int entry = out.get(i);
+                float dx = hash.getCenterX(entry) - x;
+                float dy = hash.getCenterY(entry) - y;
+                assertEquals("Rank " + i + " of query " + query, expected[i], dx * dx + dy * dy, expected[i] * 1e-5f + 1e-3f);
+            }
+        }
+    }
+
+    @Test
+    public void returnsFewerWhenThereAreFewerEntries() {
+        SpatialHash hash = new SpatialHash(CELL_SIZE, 16);
+        hash.insert(0, 1, 0, 0, 2, 2);
+        hash.insert(0, 2, 500, 500, 2, 2);
+        IntArray out = new IntArray();
+
+        assertEquals(2, hash.queryNearest(400, 400, 5, ~0, out));
+        assertEquals(2, hash.getId(out.get(0)));
+        assertEquals(1, hash.getId(out.get(1)));
+    }
+
+    @Test
+    public void skipsMaskedLayers() {
+        SpatialHash hash = new SpatialHash(CELL_SIZE, 16);
+        hash.insert(0, 1, 10, 10, 2, 2);
+        hash.insert(1, 2, 200, 200, 2, 2);
+        IntArray out = new IntArray();
+
+        assertEquals(1, hash.queryNearest(10, 10, 1, 1 << 1, out));
+        assertEquals(2, hash.getId(out.get(0)));
+    }
+
+    @Test
+    public void emptyHashFindsNothing() {
+        SpatialHash hash = new SpatialHash(CELL_SIZE, 16);
+        IntArray out = new IntArray();
+        assertEquals(0, hash.queryNearest(0, 0, 3, ~0, out));
+        hash.insert(0, 1, 0, 0, 1, 1);
+        assertEquals(0, hash.queryNearest(0, 0, 0, ~0, out));
+    }
+
+    private static float[] sortedDistances(float[][] boxes, float x, float y) {
+        float[] distances = new float[boxes.length];
+        for (int i = 0; i < boxes.length; i++) {
+            float dx = boxes[i][0] + boxes[i][2] / 2f - x;
+            float dy = boxes[i][1] + boxes[i][3] / 2f - y;
+            distances[i] = dx * dx + dy * dy;
+        }
+        Arrays.sort(distances);
+        return distances;
+    }
+}
@@ -0,0 +1,121 @@
+package game.info;
+
+import com.badlogic.gdx.utils.IntArray;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SpatialHashTest {
+    private static final float CELL_SIZE = 32f;
+
+    @Test
+    public void overlapQueryMatchesBruteForce() {
+        Random random = new Random(3);
+        SpatialHash hash = new SpatialHash(CELL_SIZE, 64);
+        float[][] boxes = insertRandomBoxes(hash, random, 500);
+        IntArray out = new IntArray();
+
+        for (int query = 0; query < 200; query++) {
+            float x = random.nextFloat() * 1000 - 100;
+            float y = random.nextFloat() * 1000 - 100;
+            float width = random.nextFloat() * 80;
+            float height = random.nextFloat() * 80;
+            hash.queryOverlaps(x, y, width, height, ~0, out);
+
+            boolean[] reported = new boolean[boxes.length];
+            for (int i = 0; i < out.size; i++) {
+                int id = hash.getId(out.get(i));
+                assertFalse("Reported twice: " + id, reported[id]);
+                reported[id] = true;
+            }
+            for (int id = 0; id < boxes.length; id++) {
+                float[] box = boxes[id];
+                boolean overlaps = box[0] < x + width && box[0] + box[2] > x
+                    && box[1] < y + height && box[1] + box[3] > y;
+                assertEquals("Box " + id, overlaps, reported[id]);
+            }
+        }
+    }
+
+    @Test
+    public void layerMaskFiltersEntries() {
+        SpatialHash hash = new SpatialHash(CELL_SIZE, 16);
+        hash.insert(0, 10, 0, 0, 10, 10);
+        hash.insert(1, 11, 0, 0, 10, 10);
+        IntArray out = new IntArray();
+
+        assertEquals(1, hash.queryOverlaps(0, 0, 10, 10, 1 << 1, out));
+        assertEquals(11, hash.getId(out.get(0)));
+        assertEquals(2, hash.queryOverlaps(0, 0, 10, 10, (1 << 0) | (1 << 1), out));
+        assertEquals(0, hash.queryOverlaps(0, 0, 10, 10, 1 << 2, out));
+    }
+
+    @Test
+    public void contactsSkipTheEntryItself() {
+        SpatialHash hash = new SpatialHash(CELL_SIZE, 16);
+        int player = hash.insert(0, 0, 0, 0, 10, 10);
+        hash.insert(0, 1, 5, 5, 10, 10);
+        hash.insert(1, 2, 9, 9, 10, 10);
+        hash.insert(1, 3, 10, 0, 10, 10);
+        IntArray out = new IntArray();
+
+        assertEquals(2, hash.queryContacts(player, ~0, out));
+        assertEquals(1 + 2, hash.getId(out.get(0)) + hash.getId(out.get(1)));
+        assertEquals(1, hash.queryContacts(player, 1 << 1, out));
+        assertEquals(2, hash.getId(out.get(0)));
+    }
+
+    @Test
+    public void radiusQueryUsesDistanceToTheBox() {
+        SpatialHash hash = new SpatialHash(CELL_SIZE, 16);
+        hash.insert(0, 0, 100, 0, 10, 10);
+        IntArray out = new IntArray();
+
+        assertEquals(1, hash.queryRadius(95, 5, 5f, ~0, out));
+        assertEquals(0, hash.queryRadius(94, 5, 5f, ~0, out));
+        assertEquals(0, hash.queryRadius(95, 20, 5f, ~0, out));
+    }
+
+    @Test
+    public void clearForgetsEverything() {
+        SpatialHash hash = new SpatialHash(CELL_SIZE, 16);
+        // Past the initial capacities, so the clear also has to cope with grown arrays.
+        insertRandomBoxes(hash, new Random(5), 1000);
+        hash.clear();
+        IntArray out = new IntArray();
+
+        assertEquals(0, hash.getEntryCount());
+        assertEquals(0, hash.queryOverlaps(-1000, -1000, 3000, 3000, ~0, out));
+
+        int entry = hash.insert(0, 42, 5, 5, 1, 1);
+        assertEquals(0, entry);
+        assertEquals(1, hash.queryOverlaps(0, 0, 10, 10, ~0, out));
+        assertEquals(42, hash.getId(out.get(0)));
+    }
+
+    @Test
+    public void negativeCoordinatesFallInTheirOwnCells() {
+        SpatialHash hash = new SpatialHash(CELL_SIZE, 16);
+        hash.insert(0, 0, -20, -20, 10, 10);
+        IntArray out = new IntArray();
+
+        assertEquals(1, hash.queryOverlaps(-15, -15, 1, 1, ~0, out));
+        assertEquals(0, hash.queryOverlaps(5, 5, 1, 1, ~0, out));
+        assertTrue(hash.getCenterX(0) < 0);
+    }
+
+    static float[][] insertRandomBoxes(SpatialHash hash, Random random, int count) {
+        float[][] boxes = new float[count][];
+        for (int id = 0; id < count; id++) {
+            float[] box = {random.nextFloat() * 800, random.nextFloat() * 800,
+                random.nextFloat() * 60, random.nextFloat() * 60};
+            boxes[id] = box;
+            hash.insert(id % 3, id, box[0], box[1], box[2], box[3]);
+        }
+        return boxes;
+    }
+}
@@ -0,0 +1,76 @@
+package game.info;
+
+import com.badlogic.gdx.math.RandomXS128;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+// Runs the director with the arena's own limits and a wave every tick, so the threat budget
+// quickly outgrows both the per-tick spawn cap and the live population ceiling.
+public class SpawnDirectorTest {
+    private static final float WAVE = ArenaScreen.MONSTER_SPAWN_INTERVAL;
+
+    @Test
+    public void spawnsPerTickStayUnderTheCap() {
+        SpawnDirector director = createDirector(ArenaScreen.MAX_SPAWNS_PER_TICK);
+        MonsterStore monsters = new MonsterStore(ArenaScreen.MAX_LIVE_MONSTERS);
+        boolean capReached = false;
+        for (int tick = 0; tick < 400; tick++) {
+            int before = monsters.size;
+            director.update(WAVE, monsters);
+            int spawned = monsters.size - before;
+            assertTrue("Tick " + tick + " spawned " + spawned, spawned <= ArenaScreen.MAX_SPAWNS_PER_TICK);
+            capReached |= spawned == ArenaScreen.MAX_SPAWNS_PER_TICK;
+        }
+        assertTrue(capReached);
+    }
+
+    @Test
+    public void liveAndQueuedMonstersStayUnderTheCeiling() {
+        SpawnDirector director = createDirector(ArenaScreen.MAX_SPAWNS_PER_TICK);
+        MonsterStore monsters = new MonsterStore(ArenaScreen.MAX_LIVE_MONSTERS);
+        for (int tick = 0; tick < 400; tick++) {
+            director.update(WAVE, monsters);
+            assertTrue("Tick " + tick, monsters.size + director.getQueuedCount() <= ArenaScreen.MAX_LIVE_MONSTERS);
+        }
+        assertEquals(ArenaScreen.MAX_LIVE_MONSTERS, monsters.size);
+    }
+
+    // Each wave is spawned whole into an empty arena, so what it spawned plus what it had to
+    // drop must add up to its threat, however much was merged into brutes and elites.
+    @Test
+    public void mergedWavesAddUpToTheirThreat() {
+        SpawnDirector director = createDirector(ArenaScreen.MAX_LIVE_MONSTERS);
+        MonsterStore monsters = new MonsterStore(ArenaScreen.MAX_LIVE_MONSTERS);
+        int[] spawnedByType = new int[MonsterArchetype.ALL.length];
+        for (int wave = 1; wave <= 3000; wave++) {
+            int droppedBefore = director.getDroppedThreat();
+            director.update(WAVE, monsters);
+            assertEquals(wave, director.getWave());
+            assertEquals(0, director.getQueuedCount());
+
+            int threat = 0;
+            for (int i = 0; i < monsters.size; i++) {
+                MonsterArchetype archetype = monsters.getArchetype(i);
+                threat += archetype.getThreat();
+                spawnedByType[archetype.getIndex()]++;
+            }
+            assertEquals("Wave " + wave, wave, threat + director.getDroppedThreat() - droppedBefore);
+            if (wave <= ArenaScreen.MAX_LIVE_MONSTERS) {
+                assertEquals(wave, monsters.size);
+            }
+            monsters.clear();
+        }
+        assertTrue(spawnedByType[MonsterArchetype.BRUTE.getIndex()] > 0);
+        assertTrue(spawnedByType[MonsterArchetype.ELITE.getIndex()] > 0);
+        // 160 elites are 2560 threat; only waves past that have anything to drop.
+        assertTrue(director.getDroppedThreat() > 0);
+    }
+
+    private static SpawnDirector createDirector(int maxSpawnsPerTick) {
+        SpawnDirector director = new SpawnDirector(WAVE, ArenaScreen.MAX_LIVE_MONSTERS, maxSpawnsPerTick, new RandomXS128(1));
+        director.setSpawnArea(480, 480);
+        return director;
+    }
+}
@@ -0,0 +1,69 @@
+package game.info;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class WorldRenderTargetTest {
+    private static final int WORLD_WIDTH = 320;
+    private static final int WORLD_HEIGHT = 180;
+
+    @Test
+    public void exactMultipleFillsTheScreenWithoutOffset() {
+        int scale = WorldRenderTarget.fillScale(1920, 1080, WORLD_WIDTH, WORLD_HEIGHT);
+        assertEquals(6, scale);
+        assertEquals(320, WorldRenderTarget.bufferSize(1920, scale));
+        assertEquals(180, WorldRenderTarget.bufferSize(1080, scale));
+        assertEquals(0, WorldRenderTarget.centerOffset(1920, 320, scale));
+    }
+
+    @Test
+    public void oddSizesRoundTheBufferUpAndCentreIt() {
+        int scale = WorldRenderTarget.fillScale(1921, 1081, WORLD_WIDTH, WORLD_HEIGHT);
+        assertEquals(6, scale);
+        assertEquals(321, WorldRenderTarget.bufferSize(1921, scale));
+        assertEquals(181, WorldRenderTarget.bufferSize(1081, scale));
+        // 1926 pixels drawn over 1921: 2 off the left edge, 3 off the right.
+        assertEquals(-2, WorldRenderTarget.centerOffset(1921, 321, scale));
+    }
+
+    @Test
+    public void smallWindowsKeepAScaleOfOne() {
+        assertEquals(1, WorldRenderTarget.fillScale(100, 50, WORLD_WIDTH, WORLD_HEIGHT));
+        assertEquals(1, WorldRenderTarget.fillScale(319, 179, WORLD_WIDTH, WORLD_HEIGHT));
+        assertEquals(1, WorldRenderTarget.fillScale(0, 0, WORLD_WIDTH, WORLD_HEIGHT));
+        assertEquals(100, WorldRenderTarget.bufferSize(100, 1));
+        assertEquals(1, WorldRenderTarget.bufferSize(0, 1));
+        assertEquals(0, WorldRenderTarget.centerOffset(100, 100, 1));
+    }
+
+    // Whatever the window, the scaled buffer covers it, overhangs by less than one texel and
+    // is split evenly (to the pixel) between both edges.
+    @Test
+    public void everySizeIsCoveredAndCentred() {
+        for (int screenWidth = 1; screenWidth <= 2600; screenWidth += 7) {
+            for (int screenHeight = 1; screenHeight <= 1500; screenHeight += 11) {
+                int scale = WorldRenderTarget.fillScale(screenWidth, screenHeight, WORLD_WIDTH, WORLD_HEIGHT);
+                assertTrue(scale >= 1);
+                assertAxis(screenWidth, scale);
+                assertAxis(screenHeight, scale);
+                if (scale > 1) {
+                    assertTrue(WorldRenderTarget.bufferSize(screenWidth, scale) >= WORLD_WIDTH
+                        || WorldRenderTarget.bufferSize(screenHeight, scale) >= WORLD_HEIGHT);
+                }
+            }
+        }
+    }
+
+    private static void assertAxis(int screenSize, int scale) {
+        int buffer = WorldRenderTarget.bufferSize(screenSize, scale);
+        int overhang = buffer * scale - screenSize;
+        assertTrue(screenSize + " at " + scale, overhang >= 0 && overhang < scale);
+
+        int offset = WorldRenderTarget.centerOffset(screenSize, buffer, scale);
+        int before = -offset;
+        int after = overhang - before;
+        assertTrue(screenSize + " at " + scale, before >= 0 && after >= 0 && Math.abs(after - before) <= 1);
+    }
+}
@@ -0,0 +1,157 @@
+package game.info.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import game.info.ArenaMetrics;
+import game.info.ArenaRecording;
+import game.info.ArenaScreen;
+import game.info.CloudScreen;
+import game.info.DungeonScreen;
+import game.info.ForestScreen;
+import game.info.MyGames;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+
+// Runs each requested arena for a fixed number of ticks with scripted (or recorded) input
+// and prints throughput and memory figures per level. When the player dies before the tick
+// budget is spent, the arena goes through the game's own game-over path and a fresh run of
+// the same level picks up the remaining ticks.
+public class ArenaSoakRunner extends ApplicationAdapter {
+    private static final int SCRIPT_TURN_TICKS = 90;
+    private static final int SCRIPT_FIRE_TICKS = 30;
+    private static final int TICKS_PER_BATCH = 60;
+
+    private final String[] levels;
+    private final int ticks;
+    private final long seed;
+    private final int flags;
+    private final FileHandle replayFile;
+    private MyGames game;
+
+    public ArenaSoakRunner(String[] levels, int ticks, long seed, int flags, FileHandle replayFile) {
+        this.levels = levels;
+        this.ticks = ticks;
+        this.seed = seed;
+        this.flags = flags;
+        this.replayFile = replayFile;
+    }
+
+    @Override
+    public void create() {
+        GL20 gl = NullGL20.create();
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+        game = new MyGames();
+        game.create();
+
+        System.out.println("level      ticks  runs  ticks/s  peakMonsters  peakProjectiles  alloc MB/s  heapPeak MB");
+        for (String level : levels) {
+            runLevel(level);
+        }
+        Gdx.app.exit();
+    }
+
+    private void runLevel(String level) {
+        resetHeapPeaks();
+        long allocatedBefore = getAllocatedBytes();
+        long start = System.nanoTime();
+        int done = 0;
+        int runs = 0;
+        int peakMonsters = 0;
+        int peakProjectiles = 0;
+
+        while (done < ticks) {
+            ArenaScreen screen = createScreen(level, seed + runs);
+            runs++;
+            game.setScreen(screen);
+            screen.resize(MyGames.WIDTH * MyGames.SCALE, MyGames.HEIGHT * MyGames.SCALE);
+            ArenaMetrics metrics = screen.getMetrics();
+            while (done < ticks && !screen.isGameOver()) {
+                long before = screen.getTickCount();
+                screen.simulate(Math.min(TICKS_PER_BATCH, ticks - done));
+                done += (int) (screen.getTickCount() - before);
+                peakMonsters = Math.max(peakMonsters, metrics.getLiveMonsters());
+                peakProjectiles = Math.max(peakProjectiles, metrics.getActiveProjectiles());
+            }
+            if (screen.isGameOver()) {
+                runPostedRunnables();
+            }
+            if (replayFile != null) break;
+        }
+        game.setScreen(null);
+
+        float seconds = (System.nanoTime() - start) / 1_000_000_000f;
+        float allocatedMegabytes = (getAllocatedBytes() - allocatedBefore) / (1024f * 1024f);
+        System.out.printf("%-9s %6d %5d %8.0f %13d %16d %11.1f %12.1f%n",
+            level, done, runs, done / seconds, peakMonsters, peakProjectiles,
+            allocatedMegabytes / seconds, getHeapPeak() / (1024f * 1024f));
+    }
+
+    private ArenaScreen createScreen(String level, long runSeed) {
+        if (replayFile != null) return ArenaScreen.createReplay(game, replayFile);
+
+        ArenaRecording input = createScript(level, runSeed, ticks, flags);
+        switch (level) {
+            case "forest":
+                return new ForestScreen(game, input);
+            case "dungeon":
+                return new DungeonScreen(game, input);
+            case "cloud":
+                return new CloudScreen(game, input);
+            default:
+                throw new IllegalArgumentException("Unknown level: " + level);
+        }
+    }
+
+    // Walks in a slowly turning octagon and fires whenever the bomb is off cooldown.
+    static ArenaRecording createScript(String level, long runSeed, int ticks, int flags) {
+        ArenaRecording script = new ArenaRecording(level, runSeed, 60, "default", flags);
+        for (long tick = 0; tick < ticks; tick++) {
+            if (tick % SCRIPT_TURN_TICKS == 0) {
+                double angle = (tick / SCRIPT_TURN_TICKS) * Math.PI / 4;
+                int x = (int) Math.round(Math.cos(angle) * 32767);
+                int y = (int) Math.round(Math.sin(angle) * 32767);
+                script.record(tick, ArenaRecording.EVENT_JOYSTICK, ((x & 0xFFFF) << 16) | (y & 0xFFFF));
+            }
+            if (tick % SCRIPT_FIRE_TICKS == 0) {
+                script.record(tick, ArenaRecording.EVENT_FIRE, 0);
+            }
+        }
+        return script;
+    }
+
+    // Game over swaps in the results screen from a posted runnable, and the loop that would run
+    // it is waiting on this one.
+    static void runPostedRunnables() {
+        ((HeadlessApplication) Gdx.app).executeRunnables();
+    }
+
+    private static long getAllocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    private static void resetHeapPeaks() {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) pool.resetPeakUsage();
+        }
+    }
+
+    private static long getHeapPeak() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) peak += pool.getPeakUsage().getUsed();
+        }
+        return peak;
+    }
+}
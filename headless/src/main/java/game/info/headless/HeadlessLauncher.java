@@ -0,0 +1,49 @@
+package game.info.headless;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.backends.headless.HeadlessFileHandle;
+import com.badlogic.gdx.files.FileHandle;
+import game.info.ArenaRecording;
+
+// Usage: [--ticks N] [--seed S] [--levels forest,dungeon,cloud] [--broad-phase grid|box2d]
+//        [--replay file.ssr]
+// Run from the assets directory, e.g. ./gradlew :headless:soak -Psoak.args="--ticks 36000"
+public class HeadlessLauncher {
+    public static void main(String[] args) {
+        int ticks = 18_000;
+        long seed = 1;
+        String[] levels = {"forest", "dungeon", "cloud"};
+        int flags = 0;
+        FileHandle replay = null;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--ticks":
+                    ticks = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[i + 1]);
+                    break;
+                case "--levels":
+                    levels = args[i + 1].split(",");
+                    break;
+                case "--broad-phase":
+                    if (args[i + 1].equals("box2d")) flags |= ArenaRecording.FLAG_BOX2D_BROAD_PHASE;
+                    break;
+                case "--replay":
+                    replay = new HeadlessFileHandle(args[i + 1], Files.FileType.Absolute);
+                    levels = new String[]{"replay"};
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // Keep the soak runs away from the player's saved progress.
+        configuration.preferencesDirectory = ".prefs/spaceshards-soak/";
+        configuration.updatesPerSecond = -1;
+        new HeadlessApplication(new ArenaSoakRunner(levels, ticks, seed, flags, replay), configuration);
+    }
+}
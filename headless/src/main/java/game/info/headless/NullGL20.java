@@ -0,0 +1,35 @@
+package game.info.headless;
+
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+// GL20 that accepts every call and does nothing, so textures, shaders and batches can be
+// constructed without a context. Shader compile and link status report success; every
+// other query returns zero.
+public final class NullGL20 {
+    private NullGL20() {
+    }
+
+    public static GL20 create() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class},
+            (proxy, method, args) -> {
+                String name = method.getName();
+                if ((name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) && args[2] instanceof IntBuffer) {
+                    int parameter = (Integer) args[1];
+                    boolean status = parameter == GL20.GL_COMPILE_STATUS || parameter == GL20.GL_LINK_STATUS;
+                    ((IntBuffer) args[2]).put(0, status ? GL20.GL_TRUE : 0);
+                    return null;
+                }
+
+                Class<?> type = method.getReturnType();
+                if (type == int.class) return name.startsWith("glGen") || name.startsWith("glCreate") ? 1 : 0;
+                if (type == boolean.class) return false;
+                if (type == float.class) return 0f;
+                if (type == long.class) return 0L;
+                if (type == String.class) return "";
+                return null;
+            });
+    }
+}
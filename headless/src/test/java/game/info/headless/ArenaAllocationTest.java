@@ -0,0 +1,121 @@
+package game.info.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import game.info.ArenaRecording;
+import game.info.ArenaScreen;
+import game.info.CloudScreen;
+import game.info.DungeonScreen;
+import game.info.ForestScreen;
+import game.info.MyGames;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+// Runs each arena with the soak script past the point where its pools and scratch arrays have
+// grown to their working size, then checks that further ticks allocate nothing at all. The
+// same run is played once beforehand so the JVM's own one-off work (class loading, resolving
+// string constants on a first visit to a branch) is out of the way; the replay is deterministic,
+// so the measured run takes exactly the same paths. Run from the assets directory (the Gradle
+// test task does this).
+public class ArenaAllocationTest {
+    private static final int WARM_UP_TICKS = 1800;
+    private static final int MEASURED_TICKS = 1800;
+    private static final int MIN_MEASURED_TICKS = 600;
+
+    private static HeadlessApplication application;
+    private static MyGames game;
+
+    @BeforeClass
+    public static void createGame() {
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.preferencesDirectory = ".prefs/spaceshards-test/";
+        configuration.updatesPerSecond = -1;
+        application = new HeadlessApplication(new ApplicationAdapter() {}, configuration);
+        GL20 gl = NullGL20.create();
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+        game = new MyGames();
+        game.create();
+    }
+
+    @AfterClass
+    public static void exitGame() {
+        application.exit();
+    }
+
+    @Test
+    public void forestTicksDoNotAllocate() {
+        assertSteadyStateDoesNotAllocate("forest");
+    }
+
+    @Test
+    public void dungeonTicksDoNotAllocate() {
+        assertSteadyStateDoesNotAllocate("dungeon");
+    }
+
+    @Test
+    public void cloudTicksDoNotAllocate() {
+        assertSteadyStateDoesNotAllocate("cloud");
+    }
+
+    private static ArenaScreen createScreen(String level) {
+        ArenaRecording script = ArenaSoakRunner.createScript(level, 1, WARM_UP_TICKS + MEASURED_TICKS, 0);
+        ArenaScreen screen;
+        switch (level) {
+            case "forest":
+                screen = new ForestScreen(game, script);
+                break;
+            case "dungeon":
+                screen = new DungeonScreen(game, script);
+                break;
+            default:
+                screen = new CloudScreen(game, script);
+                break;
+        }
+        screen.show();
+        screen.resize(MyGames.WIDTH * MyGames.SCALE, MyGames.HEIGHT * MyGames.SCALE);
+        return screen;
+    }
+
+    private static void assertSteadyStateDoesNotAllocate(String level) {
+        ArenaScreen warmUp = createScreen(level);
+        warmUp.simulate(WARM_UP_TICKS + MEASURED_TICKS);
+        warmUp.hide();
+        warmUp.dispose();
+
+        ArenaScreen screen = createScreen(level);
+        try {
+            screen.simulate(WARM_UP_TICKS);
+            assertTrue("The player died during warm-up", !screen.isGameOver());
+
+            // Measured one tick at a time so the run can stop at game over, which is allowed
+            // to allocate (it saves the run and builds the results).
+            com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long thread = Thread.currentThread().getId();
+            long allocated = 0;
+            int measured = 0;
+            while (measured < MEASURED_TICKS) {
+                long before = threads.getThreadAllocatedBytes(thread);
+                screen.simulate(1);
+                if (screen.isGameOver()) break;
+                allocated += threads.getThreadAllocatedBytes(thread) - before;
+                measured++;
+            }
+            assertTrue("Only " + measured + " ticks before game over", measured >= MIN_MEASURED_TICKS);
+            assertEquals("Bytes allocated over " + measured + " ticks", 0, allocated);
+        } finally {
+            screen.hide();
+            screen.dispose();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package game.info.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import game.info.ArenaRecording;
+import game.info.ArenaScreen;
+import game.info.ForestScreen;
+import game.info.MyGames;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+// Lets the player stand still until the monsters kill it, then runs the posted game-over
+// runnable the way the render loop would. The arena is disposed by MyGames.setScreen on the
+// way to the results screen; freeing its native Box2D world a second time would take the
+// whole JVM down rather than fail the test.
+public class ArenaGameOverTest {
+    private static final int MAX_TICKS = 60 * 60 * 10;
+    private static final int TICKS_PER_BATCH = 60;
+
+    private static HeadlessApplication application;
+    private static MyGames game;
+
+    @BeforeClass
+    public static void createGame() {
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.preferencesDirectory = ".prefs/spaceshards-test/";
+        configuration.updatesPerSecond = -1;
+        application = new HeadlessApplication(new ApplicationAdapter() {}, configuration);
+        GL20 gl = NullGL20.create();
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+        game = new MyGames();
+        game.create();
+    }
+
+    @AfterClass
+    public static void exitGame() {
+        game.setScreen(null);
+        application.exit();
+    }
+
+    @Test
+    public void gameOverWithGridBroadPhase() {
+        playUntilGameOver(0);
+    }
+
+    @Test
+    public void gameOverWithBox2dBroadPhase() {
+        playUntilGameOver(ArenaRecording.FLAG_BOX2D_BROAD_PHASE);
+    }
+
+    private static void playUntilGameOver(int flags) {
+        ArenaScreen screen = new ForestScreen(game, new ArenaRecording("forest", 1, 60, "default", flags));
+        game.setScreen(screen);
+        screen.resize(MyGames.WIDTH * MyGames.SCALE, MyGames.HEIGHT * MyGames.SCALE);
+        for (int ticks = 0; ticks < MAX_TICKS && !screen.isGameOver(); ticks += TICKS_PER_BATCH) {
+            screen.simulate(TICKS_PER_BATCH);
+        }
+        assertTrue("The player survived " + MAX_TICKS + " ticks standing still", screen.isGameOver());
+        assertSame(screen, game.getCurrentScreen());
+
+        ArenaSoakRunner.runPostedRunnables();
+        assertNotSame(screen, game.getCurrentScreen());
+        assertFalse(game.getCurrentScreen() instanceof ArenaScreen);
+
+        // A stray second dispose must stay harmless as well.
+        screen.dispose();
+    }
+}
@@ -0,0 +1,101 @@
+package game.info.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import game.info.ArenaLevel;
+import game.info.FlowField;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+// Builds flow fields from the shipped maps, so a map edit that drops the walls' "blocked"
+// property shows up here rather than as monsters walking through the dungeon's pillars.
+public class MapFlowFieldTest {
+    private static final int MAP_TILES = 30;
+    private static final float TILE_SIZE = 16f;
+
+    private static HeadlessApplication application;
+
+    @BeforeClass
+    public static void createApplication() {
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1;
+        application = new HeadlessApplication(new ApplicationAdapter() {}, configuration);
+        GL20 gl = NullGL20.create();
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+    }
+
+    @AfterClass
+    public static void exitApplication() {
+        application.exit();
+    }
+
+    @Test
+    public void dungeonWallsAreUnreachable() {
+        FlowField field = createField(ArenaLevel.DUNGEON);
+        // The lower-left block of atlas_walls_low tiles, four tiles from each map edge.
+        int wallX = 26;
+        int wallY = 4;
+        assertEquals(FlowField.BLOCKED, field.getCost(wallX, wallY));
+
+        field.setTarget(240, 240);
+        assertFalse(field.hasDirection(wallY * MAP_TILES + wallX));
+        assertTrue(field.hasDirection(wallY * MAP_TILES + wallX - 2));
+    }
+
+    @Test
+    public void wallsLeaveTheIslandConnected() {
+        ArenaLevel[] levels = {ArenaLevel.FOREST, ArenaLevel.DUNGEON, ArenaLevel.CLOUD};
+        for (ArenaLevel level : levels) {
+            FlowField field = createField(level);
+            field.setTarget(240, 240);
+            int target = field.cellAt(240, 240);
+            int minCell = (int) (level.getIslandMinX() / TILE_SIZE);
+            int maxCell = (int) (level.getIslandMaxX() / TILE_SIZE);
+            for (int cellY = minCell; cellY < maxCell; cellY++) {
+                for (int cellX = minCell; cellX < maxCell; cellX++) {
+                    int cell = cellY * MAP_TILES + cellX;
+                    if (cell == target || field.getCost(cellX, cellY) == FlowField.BLOCKED) continue;
+                    assertTrue(level.getMapPath() + " cell " + cellX + "," + cellY, field.hasDirection(cell));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void onlyTheDungeonHasWalls() {
+        assertEquals(0, countBlocked(createField(ArenaLevel.FOREST)));
+        assertEquals(0, countBlocked(createField(ArenaLevel.CLOUD)));
+        assertTrue(countBlocked(createField(ArenaLevel.DUNGEON)) > 0);
+    }
+
+    private static FlowField createField(ArenaLevel level) {
+        TiledMap map = new TmxMapLoader().load(level.getMapPath());
+        try {
+            return FlowField.fromMap(map, MAP_TILES, MAP_TILES, TILE_SIZE,
+                level.getIslandMinX(), level.getIslandMinY(), level.getIslandMaxX(), level.getIslandMaxY());
+        } finally {
+            map.dispose();
+        }
+    }
+
+    private static int countBlocked(FlowField field) {
+        int blocked = 0;
+        for (int cellY = 0; cellY < field.getHeight(); cellY++) {
+            for (int cellX = 0; cellX < field.getWidth(); cellX++) {
+                if (field.getCost(cellX, cellY) == FlowField.BLOCKED) blocked++;
+            }
+        }
+        return blocked;
+    }
+}
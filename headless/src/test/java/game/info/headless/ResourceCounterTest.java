@@ -0,0 +1,63 @@
+package game.info.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import game.info.ResourceCounter;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+// Needs a real BitmapFont, hence the headless module.
+public class ResourceCounterTest {
+    private static HeadlessApplication application;
+
+    @BeforeClass
+    public static void createApplication() {
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1;
+        application = new HeadlessApplication(new ApplicationAdapter() {}, configuration);
+        GL20 gl = NullGL20.create();
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+    }
+
+    @AfterClass
+    public static void exitApplication() {
+        application.exit();
+    }
+
+    @Test
+    public void layoutIsOnlyRebuiltWhenSomethingChanges() {
+        BitmapFont font = new BitmapFont();
+        SpriteBatch batch = new SpriteBatch();
+        try {
+            ResourceCounter counter = new ResourceCounter(font, font.getRegion(), font.getRegion());
+            batch.begin();
+            counter.draw(batch, 120, 3, 1280, 720);
+            assertEquals(1, counter.getLayoutCount());
+            counter.draw(batch, 120, 3, 1280, 720);
+            counter.draw(batch, 120, 3, 1280, 720);
+            assertEquals(1, counter.getLayoutCount());
+
+            counter.draw(batch, 125, 3, 1280, 720);
+            assertEquals(2, counter.getLayoutCount());
+            counter.draw(batch, 125, 4, 1280, 720);
+            assertEquals(3, counter.getLayoutCount());
+            counter.draw(batch, 125, 4, 1920, 1080);
+            assertEquals(4, counter.getLayoutCount());
+            counter.draw(batch, 125, 4, 1920, 1080);
+            assertEquals(4, counter.getLayoutCount());
+            batch.end();
+        } finally {
+            batch.dispose();
+            font.dispose();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package game.info.lwjgl3;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+
+import javax.imageio.ImageIO;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/** Packs the loose sprite and UI images in assets/ into one single-page atlas per screen context. Run with ./gradlew :lwjgl3:packTextures */
+public class AtlasPacker {
+    // Everything drawn in the world camera: heroes, monsters, pets, projectiles and hub props.
+    private static final String[] ARENA = {
+        "player.png", "player1.png", "player2.png",
+        "man.png", "man1.png", "man2.png",
+        "dragon.png", "dragon1.png", "dragon3.png",
+        "girl.png", "girl1.png", "girl2.png",
+        "monster.png", "monster1.png", "monster2.png",
+        "enemy.png", "enemy1.png", "enemy2.png",
+        "slug1.png", "slug2.png",
+        "idle01.png", "idle02.png", "goblin01.png", "goblin02.png", "zombie01.png", "zombie02.png",
+        "bomb.png", "imp/knife.png", "spell.png",
+        "kn1.png", "kn3.png", "hi.png", "door.png", "shop.png"
+    };
+
+    // Everything drawn in the screen-space camera over the world. The health bars, pause button
+    // and resource icons are only ever drawn at the size after the name (ArenaScreen,
+    // ResourceCounter), so they are stored at that size instead of the source's.
+    private static final String[] HUD = {
+        "hp1.png 441x108", "hp2.png 441x108", "hp3.png 441x108", "hp4.png 441x108", "hp5.png 441x108",
+        "pause01.png 263x114", "pause02.png 263x114",
+        "bomb.png", "imp/knife.png", "stone.png 100x100", "spell.png 100x100",
+        "knob.png", "base.png"
+    };
+
+    // Title, settings, level select and developer screens. Full-screen backgrounds stay
+    // separate textures, as in the two contexts below.
+    private static final String[] MENUS = {
+        "play01.png", "play02.png", "option01.png", "option02.png",
+        "music01.png", "music02.png", "restart01.png", "restart02.png",
+        "back01.png", "back02.png"
+    };
+
+    // The hub and the hero, pet, improvement, map and award shops.
+    private static final String[] SHOP = {
+        "back01.png", "back02.png", "yes01.png", "yes02.png", "no01.png", "no02.png",
+        "stone.png", "spell.png", "award_icon.png", "monster.png",
+        "player.png", "man.png", "dragon.png", "girl.png",
+        "idle01.png", "idle02.png", "goblin01.png", "goblin02.png", "zombie01.png", "zombie02.png",
+        "imp/knife.png", "imp/speed_x2.png", "imp/spell_auto.png"
+    };
+
+    // Pause and game over screens; their resource counters draw the icons at 100x100.
+    private static final String[] DIALOGS = {
+        "restart01.png", "restart02.png", "home01.png", "home02.png", "play01.png", "play02.png",
+        "stone.png 100x100", "spell.png 100x100"
+    };
+
+    public static void main(String[] args) {
+        File assets = new File(args.length > 0 ? args[0] : "assets");
+        File output = new File(assets, "atlases");
+        pack(assets, ARENA, output, "arena");
+        pack(assets, HUD, output, "hud");
+        pack(assets, MENUS, output, "menus");
+        pack(assets, SHOP, output, "shop");
+        pack(assets, DIALOGS, output, "dialogs");
+    }
+
+    private static void pack(File assets, String[] images, File output, String name) {
+        TexturePacker.Settings settings = new TexturePacker.Settings();
+        settings.maxWidth = 2048;
+        settings.maxHeight = 2048;
+        settings.paddingX = 2;
+        settings.paddingY = 2;
+        // Pages are never mipmapped or repeated, so they can be sized to their content.
+        settings.pot = false;
+        settings.duplicatePadding = true;
+        settings.filterMin = Texture.TextureFilter.Nearest;
+        settings.filterMag = Texture.TextureFilter.Nearest;
+        settings.useIndexes = false;
+        settings.legacyOutput = false;
+        settings.silent = true;
+
+        deletePages(output, name);
+        TexturePacker packer = new TexturePacker(settings);
+        for (String entry : images) {
+            String[] parts = entry.split(" ");
+            BufferedImage image = read(new File(assets, parts[0]));
+            if (parts.length > 1) {
+                String[] size = parts[1].split("x");
+                image = resize(image, Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+            }
+            packer.addImage(image, regionName(parts[0]));
+        }
+        packer.pack(output, name);
+
+        // The game expects every context on one page; a second page means the art outgrew it.
+        if (new File(output, name + "2.png").exists()) {
+            throw new IllegalStateException("The " + name + " atlas no longer fits on one page");
+        }
+    }
+
+    // Drops the output of an earlier pack: TexturePacker appends to an existing .atlas file, and
+    // the earlier pack may have had more pages than this one will.
+    private static void deletePages(File output, String name) {
+        File[] pages = output.listFiles((dir, file) -> file.matches(name + "(\\d*\\.png|\\.atlas)"));
+        if (pages == null) return;
+        for (File page : pages) {
+            if (!page.delete()) throw new UncheckedIOException(new IOException("Could not delete " + page));
+        }
+    }
+
+    // Halves with bilinear filtering until one last step reaches the target, so every source
+    // pixel is averaged in. Working in premultiplied alpha keeps transparent pixels' colour
+    // from bleeding into the edges.
+    private static BufferedImage resize(BufferedImage image, int width, int height) {
+        BufferedImage current = draw(image, image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB_PRE);
+        while (current.getWidth() / 2 >= width && current.getHeight() / 2 >= height) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2, BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+        current = draw(current, width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        return draw(current, width, height, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    private static BufferedImage draw(BufferedImage image, int width, int height, int type) {
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D graphics = target.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.setComposite(AlphaComposite.Src);
+        graphics.drawImage(image, 0, 0, width, height, null);
+        graphics.dispose();
+        return target;
+    }
+
+    // "imp/knife.png" is looked up as "knife", the same name the game used for the loose file.
+    private static String regionName(String image) {
+        String name = image.substring(image.lastIndexOf('/') + 1);
+        return name.substring(0, name.lastIndexOf('.'));
+    }
+
+    private static BufferedImage read(File file) {
+        try {
+            BufferedImage image = ImageIO.read(file);
+            if (image == null) throw new IllegalArgumentException("Unsupported atlas image: " + file);
+            return image;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read atlas image " + file, e);
+        }
+    }
+}